@@ -0,0 +1,49 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Auth AuthUser 파라미터 해석 비용. JwtFilter 가 넣어 둔 request attribute 로 AuthUser 를 만드는 과정이며 인증이 필요한 모든 요청에서 실행된다.
+ * 실행: gradle jmh -PjmhIncludes=AuthUserArgumentResolverBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthUserArgumentResolverBenchmark {
+
+    private AuthUserArgumentResolver resolver;
+    private MethodParameter authUserParameter;
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        resolver = new AuthUserArgumentResolver();
+        authUserParameter = new MethodParameter(
+                TodoController.class.getMethod("saveTodo", AuthUser.class, TodoSaveRequest.class), 0);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/todos");
+        request.setAttribute("userId", 1L);
+        request.setAttribute("email", "user@example.com");
+        request.setAttribute("userRole", UserRole.USER.name());
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public boolean supportsParameter() {
+        return resolver.supportsParameter(authUserParameter);
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(authUserParameter, null, webRequest, null);
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 파서를 새로 만드는 기존 방식(legacy)과 JwtUtil 의 재사용 파서 방식을 비교한다.
+ * 실행: gradle jmh -PjmhIncludes=JwtUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET_KEY = Base64.getEncoder()
+            .encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+    private JwtUtil jwtUtil;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET_KEY);
+        jwtUtil.init();
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+    }
+
+    @Benchmark
+    public Claims parseLegacy() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal parseReusedParser() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public String signLegacy() {
+        Date date = new Date();
+        return "Bearer " + Jwts.builder()
+                .setSubject(String.valueOf(1L))
+                .claim("email", "user@example.com")
+                .claim("userRole", UserRole.USER.name())
+                .setExpiration(new Date(date.getTime() + 60 * 60 * 1000L))
+                .setIssuedAt(date)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+    }
+}
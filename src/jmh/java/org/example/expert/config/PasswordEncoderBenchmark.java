@@ -0,0 +1,42 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost 별 초당 해싱/검증 횟수를 측정해 로그인 처리량에 맞는 password.bcrypt.cost 를 고르는 데 사용한다.
+ * 실행: gradle jmh -PjmhIncludes=PasswordEncoderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordEncoderBenchmark {
+
+    @Param({"4", "6", "8", "10", "12"})
+    private int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder(0, 1_000, cost);
+        encodedPassword = passwordEncoder.encode("Password1234");
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("Password1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("Password1234", encodedPassword);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.expert.domain.comment;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.comment.dto.request.CommentBulkSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 bulk 등록(saveComments, batch INSERT)과 요청당 한 건 등록(saveComment 반복)의 처리량을 비교한다.
+ * 결과의 rows 보조 카운터가 초당 INSERT 된 행 수이다: gradle jmh -PjmhIncludes=CommentBulkInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class CommentBulkInsertBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int rows;
+
+    // h2: 기본 모드, mysql: H2 의 MySQL 호환 모드
+    @Param({"h2", "mysql"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private CommentService commentService;
+    private CommentRepository commentRepository;
+    private AuthUser authUser;
+    private long todoId;
+    private CommentBulkSaveRequest bulkRequest;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class InsertedRows {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = "jdbc:h2:mem:comment-bulk-" + mode + ";DB_CLOSE_DELAY=-1"
+                + ("mysql".equals(mode) ? ";MODE=MySQL;DATABASE_TO_LOWER=TRUE" : "");
+
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes()),
+                        "spring.datasource.url=" + url,
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "weather.api.base-url=http://127.0.0.1:9",
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        commentService = context.getBean(CommentService.class);
+        commentRepository = context.getBean(CommentRepository.class);
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User("benchmark@example.com", "password", UserRole.USER));
+        Todo todo = context.getBean(TodoRepository.class)
+                .save(new Todo("title", "contents", "Sunny", user));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        todoId = todo.getId();
+
+        List<CommentSaveRequest> comments = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            comments.add(new CommentSaveRequest("comment " + i));
+        }
+        bulkRequest = new CommentBulkSaveRequest(comments);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearComments() {
+        commentRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object bulk(InsertedRows counter) {
+        counter.rows += rows;
+        return commentService.saveComments(authUser, todoId, bulkRequest);
+    }
+
+    @Benchmark
+    public void perRequest(InsertedRows counter) {
+        for (CommentSaveRequest request : bulkRequest.getComments()) {
+            commentService.saveComment(authUser, todoId, request);
+        }
+        counter.rows += rows;
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.domain.comment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommentService 응답 생성 비용을 DB 없이 측정한다.
+ * projection: 댓글 목록 조회의 생성자 프로젝션, bulkSaveResponses: 일괄 저장 후 응답 변환, serializeComments: 목록 JSON 직렬화.
+ * 실행: gradle jmh -PjmhIncludes=CommentResponseMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CommentResponseMappingBenchmark {
+
+    @Param({"20", "1000"})
+    private int commentCount;
+
+    private User user;
+    private List<Comment> comments;
+    private List<Object[]> rows;
+    private List<CommentResponse> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        user = new User("user@example.com", "encodedPassword", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+        LocalDateTime now = LocalDateTime.now();
+
+        comments = new ArrayList<>(commentCount);
+        rows = new ArrayList<>(commentCount);
+        for (int i = 0; i < commentCount; i++) {
+            Comment comment = new Comment("comment " + i, user, todo);
+            ReflectionTestUtils.setField(comment, "id", (long) i);
+            comments.add(comment);
+            rows.add(new Object[]{(long) i, comment.getContents(), user.getId(), user.getEmail(), now});
+        }
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responses = projection();
+    }
+
+    @Benchmark
+    public List<CommentResponse> projection() {
+        List<CommentResponse> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(new CommentResponse((Long) row[0], (String) row[1], (Long) row[2], (String) row[3], (LocalDateTime) row[4]));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<CommentSaveResponse> bulkSaveResponses() {
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        return comments.stream()
+                .map(comment -> new CommentSaveResponse(comment.getId(), comment.getContents(), userResponse))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeComments() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
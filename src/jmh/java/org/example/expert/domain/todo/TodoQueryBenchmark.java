@@ -0,0 +1,103 @@
+package org.example.expert.domain.todo;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 목록 한 페이지 조회 시 엔티티 조회 후 DTO 변환(entity)과 DTO projection(projection)의 지연 시간을 비교한다.
+ * 할당량까지 보려면 gc 프로파일러와 함께 실행: gradle jmh -PjmhIncludes=TodoQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoQueryBenchmark {
+
+    private static final int TODO_COUNT = 5_000;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TodoRepository todoRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes()),
+                        "spring.datasource.url=jdbc:h2:mem:todo-query-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "weather.api.base-url=http://127.0.0.1:9",
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        todoRepository = context.getBean(TodoRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User("benchmark@example.com", "password", UserRole.USER));
+        List<Todo> todos = new ArrayList<>(TODO_COUNT);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todos.add(new Todo("title " + i, "contents " + i, "Sunny", user));
+        }
+        todoRepository.saveAll(todos);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TodoResponse> entity() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.modifiedAt DESC", Todo.class)
+                .setMaxResults(pageSize)
+                .getResultList()
+                .stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCommentCount(),
+                        todo.getManagerCount(),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<TodoResponse> projection() {
+        return readOnlyTransaction.execute(status -> todoRepository
+                .findTodoResponseSlice(PageRequest.of(0, pageSize))
+                .getContent());
+    }
+}
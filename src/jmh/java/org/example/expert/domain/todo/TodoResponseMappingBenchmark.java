@@ -0,0 +1,108 @@
+package org.example.expert.domain.todo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TodoService 응답 생성 비용을 DB 없이 측정한다.
+ * projection: JPQL 생성자 프로젝션이 행마다 호출하는 생성자, entity: 엔티티 목록을 DTO 로 변환하는 방식,
+ * serializePage: 목록 응답(PagedModel) JSON 직렬화, saveResponse: 일정 등록 응답 생성.
+ * 실행: gradle jmh -PjmhIncludes=TodoResponseMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TodoResponseMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private List<Todo> todos;
+    private List<Object[]> rows;
+    private PagedModel<TodoResponse> pagedModel;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        User user = new User("user@example.com", "encodedPassword", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        LocalDateTime now = LocalDateTime.now();
+
+        todos = new ArrayList<>(pageSize);
+        rows = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Todo todo = new Todo("title " + i, "contents " + i, "Sunny", user);
+            ReflectionTestUtils.setField(todo, "id", (long) i);
+            ReflectionTestUtils.setField(todo, "createdAt", now);
+            ReflectionTestUtils.setField(todo, "modifiedAt", now);
+            todos.add(todo);
+            rows.add(new Object[]{(long) i, todo.getTitle(), todo.getContents(), todo.getWeather(),
+                    user.getId(), user.getEmail(), 3, 1, now, now});
+        }
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        pagedModel = new PagedModel<>(new PageImpl<>(projection(), PageRequest.of(0, pageSize), 10_000));
+    }
+
+    @Benchmark
+    public List<TodoResponse> projection() {
+        List<TodoResponse> responses = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            responses.add(new TodoResponse((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (Long) row[4], (String) row[5], (int) row[6], (int) row[7],
+                    (LocalDateTime) row[8], (LocalDateTime) row[9]));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<TodoResponse> entity() {
+        return todos.stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCommentCount(),
+                        todo.getManagerCount(),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagedModel);
+    }
+
+    @Benchmark
+    public TodoSaveResponse saveResponse() {
+        Todo todo = todos.get(0);
+        return new TodoSaveResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail())
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.expert.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마이크로초 단위 지연 시간을 로그-선형 버킷(2의 거듭제곱 구간마다 64개, 오차 약 1.6%)에 기록하는 동시성 히스토그램.
+ * 샘플을 보관하지 않으므로 요청 수와 무관하게 메모리 사용량이 일정하다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS << 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(indexOf(Long.MAX_VALUE) + 1);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(indexOf(micros));
+        totalCount.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    // 전체 합계용. 측정이 끝난 히스토그램끼리 합친다.
+    public void merge(LatencyHistogram other) {
+        for (int index = 0; index < counts.length(); index++) {
+            long count = other.counts.get(index);
+            if (count > 0) {
+                counts.addAndGet(index, count);
+            }
+        }
+        totalCount.add(other.totalCount.sum());
+        totalMicros.add(other.totalMicros.sum());
+        errorCount.add(other.errorCount.sum());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    public void recordError() {
+        errorCount.increment();
+    }
+
+    public long count() {
+        return totalCount.sum();
+    }
+
+    public long errors() {
+        return errorCount.sum();
+    }
+
+    public long maxMicros() {
+        return maxMicros.get();
+    }
+
+    public double meanMicros() {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : (double) totalMicros.sum() / count;
+    }
+
+    // 해당 분위수가 속한 버킷의 상한값 (실제 값보다 작게 보고하지 않는다)
+    public long percentileMicros(double percentile) {
+        long count = totalCount.sum();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int index = 0; index < counts.length(); index++) {
+            seen += counts.get(index);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(index), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    static int indexOf(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (micros >>> shift);
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long mantissa = index - ((long) shift << SUB_BUCKET_BITS);
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
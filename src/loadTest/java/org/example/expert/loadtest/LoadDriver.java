@@ -0,0 +1,113 @@
+package org.example.expert.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 고정된 수의 클라이언트 스레드가 응답을 받는 즉시 다음 요청을 보내는 닫힌 루프 부하 발생기.
+ * 요청마다 가중치에 따라 작업을 고르고, 작업별 히스토그램에 지연 시간(2xx)이나 오류를 기록한다.
+ */
+public final class LoadDriver {
+
+    @FunctionalInterface
+    public interface Operation {
+        HttpResponse<String> execute(ThreadLocalRandom random) throws IOException, InterruptedException;
+    }
+
+    public record WeightedOperation(String name, int weight, Operation operation) {
+    }
+
+    private LoadDriver() {
+    }
+
+    public static Map<String, LatencyHistogram> run(List<WeightedOperation> operations, int concurrency, Duration duration)
+            throws InterruptedException {
+        List<WeightedOperation> active = operations.stream().filter(operation -> operation.weight() > 0).toList();
+        if (active.isEmpty()) {
+            throw new IllegalArgumentException("가중치가 0보다 큰 작업이 없습니다.");
+        }
+        int[] cumulativeWeights = new int[active.size()];
+        int totalWeight = 0;
+        Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        for (int i = 0; i < active.size(); i++) {
+            totalWeight += active.get(i).weight();
+            cumulativeWeights[i] = totalWeight;
+            histograms.put(active.get(i).name(), new LatencyHistogram());
+        }
+
+        int weightSum = totalWeight;
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        List<Thread> threads = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        WeightedOperation operation = pick(active, cumulativeWeights, random.nextInt(weightSum));
+                        if (!execute(operation, histograms.get(operation.name()), random)) {
+                            return;
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "loadtest-client-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        threads.forEach(Thread::start);
+        done.await();
+        return histograms;
+    }
+
+    // 인터럽트되면 false
+    private static boolean execute(WeightedOperation operation, LatencyHistogram histogram, ThreadLocalRandom random) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = operation.operation().execute(random);
+            if (response.statusCode() / 100 == 2) {
+                histogram.record(System.nanoTime() - startedAt);
+            } else {
+                histogram.recordError();
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            histogram.recordError();
+            return true;
+        }
+    }
+
+    private static WeightedOperation pick(List<WeightedOperation> operations, int[] cumulativeWeights, int value) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    // 작업별 요청 수, 처리량, 분위수 지연 시간을 보고서 형식으로 정리
+    public static Map<String, Object> summarize(LatencyHistogram histogram, Duration duration) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", histogram.count());
+        summary.put("errors", histogram.errors());
+        summary.put("requestsPerSecond", histogram.count() / (duration.toMillis() / 1000.0));
+        summary.put("meanMillis", histogram.meanMicros() / 1000.0);
+        summary.put("p50Millis", histogram.percentileMicros(50) / 1000.0);
+        summary.put("p95Millis", histogram.percentileMicros(95) / 1000.0);
+        summary.put("p99Millis", histogram.percentileMicros(99) / 1000.0);
+        summary.put("maxMillis", histogram.maxMicros() / 1000.0);
+        return summary;
+    }
+}
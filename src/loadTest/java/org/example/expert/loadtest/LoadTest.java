@@ -0,0 +1,123 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * H2 메모리 DB 로 ExpertApplication 을 띄우고 데이터를 적재한 뒤, 가중치가 있는 혼합 작업을 고정된 동시 접속 수로 실행한다.
+ * 엔드포인트별 요청 수, 초당 요청 수, p50/p95/p99/max 지연 시간을 JSON 보고서로 남긴다.
+ * 실행: gradle loadTest -Pconcurrency=64 -Pduration=60s -Pmix=signin=5,listTodos=40,createTodo=5
+ */
+public class LoadTest {
+
+    private static final String DEFAULT_MIX =
+            "signin=5,listTodos=30,getTodo=20,createTodo=5,listComments=20,createComment=10,listManagers=10";
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 50);
+        int todos = Integer.getInteger("loadtest.todos", 500);
+        int commentsPerTodo = Integer.getInteger("loadtest.commentsPerTodo", 5);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+        Duration duration = Duration.parse("PT" + System.getProperty("loadtest.duration", "60s"));
+        Duration warmup = Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s"));
+        Map<String, Integer> mix = parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX));
+        boolean virtualThreads = Boolean.getBoolean("loadtest.virtualThreads");
+        File report = new File(System.getProperty("loadtest.report", "build/reports/loadtest/load-test.json"));
+
+        try (LoadTestServer server = LoadTestServer.start(Map.of(
+                "spring.threads.virtual.enabled", String.valueOf(virtualThreads)
+        ))) {
+            LoadTestClient client = new LoadTestClient(server.baseUrl());
+
+            long seedStartedAt = System.nanoTime();
+            SeedData seed = SeedData.load(client, users, todos, commentsPerTodo, 16);
+            System.out.printf("seeded %d users, %d todos, %d comments in %ds%n", seed.userCount(), seed.todoCount(),
+                    (long) seed.todoCount() * commentsPerTodo, Duration.ofNanos(System.nanoTime() - seedStartedAt).toSeconds());
+
+            List<LoadDriver.WeightedOperation> operations = operations(client, seed, todos, mix);
+            LoadDriver.run(operations, concurrency, warmup);
+            Map<String, LatencyHistogram> histograms = LoadDriver.run(operations, concurrency, duration);
+
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            LatencyHistogram total = new LatencyHistogram();
+            System.out.printf("%-14s %10s %8s %10s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50", "p95", "p99", "max");
+            histograms.forEach((name, histogram) -> {
+                Map<String, Object> summary = LoadDriver.summarize(histogram, duration);
+                endpoints.put(name, summary);
+                total.merge(histogram);
+                System.out.printf("%-14s %10d %8d %10.1f %7.2fms %7.2fms %7.2fms %7.2fms%n", name, histogram.count(),
+                        histogram.errors(), summary.get("requestsPerSecond"), summary.get("p50Millis"),
+                        summary.get("p95Millis"), summary.get("p99Millis"), summary.get("maxMillis"));
+            });
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("javaVersion", Runtime.version().toString());
+            config.put("virtualThreads", virtualThreads);
+            config.put("users", users);
+            config.put("todos", todos);
+            config.put("commentsPerTodo", commentsPerTodo);
+            config.put("concurrency", concurrency);
+            config.put("durationSeconds", duration.toSeconds());
+            config.put("warmupSeconds", warmup.toSeconds());
+            config.put("mix", mix);
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            results.put("config", config);
+            results.put("total", LoadDriver.summarize(total, duration));
+            results.put("endpoints", endpoints);
+
+            report.getParentFile().mkdirs();
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report, results);
+            System.out.println("report: " + report.getAbsolutePath());
+        }
+    }
+
+    private static List<LoadDriver.WeightedOperation> operations(LoadTestClient client, SeedData seed, int todos,
+                                                                 Map<String, Integer> mix) {
+        int pages = Math.max(1, todos / 10);
+        Map<String, LoadDriver.Operation> available = new LinkedHashMap<>();
+        available.put("signin", random -> client.post("/auth/signin", null,
+                Map.of("email", seed.randomUser(random).email(), "password", SeedData.PASSWORD)));
+        available.put("listTodos", random -> client.get("/todos?page=" + (random.nextInt(pages) + 1) + "&size=10",
+                seed.randomUser(random).bearerToken()));
+        available.put("getTodo", random -> client.get("/todos/" + seed.randomTodoId(random),
+                seed.randomUser(random).bearerToken()));
+        available.put("createTodo", random -> client.post("/todos", seed.randomUser(random).bearerToken(),
+                Map.of("title", "load title", "contents", "load contents")));
+        available.put("listComments", random -> client.get("/todos/" + seed.randomTodoId(random) + "/comments?size=20",
+                seed.randomUser(random).bearerToken()));
+        available.put("createComment", random -> client.post("/todos/" + seed.randomTodoId(random) + "/comments",
+                seed.randomUser(random).bearerToken(), Map.of("contents", "load comment")));
+        available.put("listManagers", random -> client.get("/todos/" + seed.randomTodoId(random) + "/managers",
+                seed.randomUser(random).bearerToken()));
+
+        return mix.entrySet().stream()
+                .map(entry -> {
+                    LoadDriver.Operation operation = available.get(entry.getKey());
+                    if (operation == null) {
+                        throw new IllegalArgumentException("알 수 없는 작업: " + entry.getKey() + " (가능한 값: " + available.keySet() + ")");
+                    }
+                    return new LoadDriver.WeightedOperation(entry.getKey(), entry.getValue(), operation);
+                })
+                .toList();
+    }
+
+    // "signin=5,listTodos=40" 형식
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 형식이 올바르지 않습니다: " + entry);
+            }
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
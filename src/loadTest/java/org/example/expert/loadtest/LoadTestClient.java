@@ -0,0 +1,70 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트. 데이터 적재(회원가입, 일정 등록)와 측정 요청에 함께 사용한다.
+ */
+public class LoadTestClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    public LoadTestClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public HttpResponse<String> get(String path, String bearerToken) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        return send(request, bearerToken);
+    }
+
+    public HttpResponse<String> post(String path, String bearerToken, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        return send(request, bearerToken);
+    }
+
+    public String signup(String email, String password, String userRole) throws IOException, InterruptedException {
+        HttpResponse<String> response = post("/auth/signup", null,
+                Map.of("email", email, "password", password, "userRole", userRole));
+        return readRequired(response, "/auth/signup").get("bearerToken").asText();
+    }
+
+    public long createTodo(String bearerToken, String title, String contents) throws IOException, InterruptedException {
+        HttpResponse<String> response = post("/todos", bearerToken, Map.of("title", title, "contents", contents));
+        return readRequired(response, "/todos").get("id").asLong();
+    }
+
+    public JsonNode readRequired(HttpResponse<String> response, String description) throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(description + " 요청 실패: " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request, String bearerToken) throws IOException, InterruptedException {
+        if (bearerToken != null) {
+            request.header("Authorization", bearerToken);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.ExpertApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 부하 테스트 대상 애플리케이션. 임의 포트, 전용 H2 메모리 DB, 로컬 날씨 API 스텁으로 ExpertApplication 을 띄운다.
+ */
+public final class LoadTestServer implements AutoCloseable {
+
+    private final WeatherApiStub weatherApi;
+    private final ConfigurableApplicationContext context;
+
+    private LoadTestServer(WeatherApiStub weatherApi, ConfigurableApplicationContext context) {
+        this.weatherApi = weatherApi;
+        this.context = context;
+    }
+
+    public static LoadTestServer start(Map<String, String> overrides) throws IOException {
+        WeatherApiStub weatherApi = new WeatherApiStub();
+        byte[] secret = new byte[48];
+        new SecureRandom().nextBytes(secret);
+
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "management.server.port=0",
+                "jwt.secret.key=" + Base64.getEncoder().encodeToString(secret),
+                "spring.datasource.url=jdbc:h2:mem:loadtest-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "weather.api.base-url=" + weatherApi.baseUrl(),
+                "logging.level.root=WARN"
+        ));
+        overrides.forEach((key, value) -> properties.add(key + "=" + value));
+
+        try {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpertApplication.class)
+                    .properties(ExpertApplication.defaultProperties())
+                    .properties(properties.toArray(String[]::new))
+                    .run();
+            return new LoadTestServer(weatherApi, context);
+        } catch (RuntimeException e) {
+            weatherApi.close();
+            throw e;
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    public <T> T getBeanIfAvailable(Class<T> type) {
+        return context.getBeanProvider(type).getIfAvailable();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        weatherApi.close();
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트 전에 HTTP API 로 유저/일정/댓글/담당자를 적재하고, 측정 중 사용할 토큰과 id 를 보관한다.
+ * 일정마다 작성자가 아닌 유저 한 명을 담당자로 추가하고, 댓글은 일괄 등록 API 로 넣는다.
+ */
+public final class SeedData {
+
+    public static final String PASSWORD = "loadtest-password";
+
+    public record SeededUser(long id, String email, String bearerToken) {
+    }
+
+    private final List<SeededUser> users;
+    private final long[] todoIds;
+
+    private SeedData(List<SeededUser> users, long[] todoIds) {
+        this.users = users;
+        this.todoIds = todoIds;
+    }
+
+    public static SeedData load(LoadTestClient client, int userCount, int todoCount, int commentsPerTodo, int parallelism)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<SeededUser> users = collect(executor, IntStream.range(0, userCount).mapToObj(i -> (Callable<SeededUser>) () -> {
+                String email = "loadtest-" + i + "@example.com";
+                String bearerToken = client.signup(email, PASSWORD, "USER");
+                return new SeededUser(userIdOf(bearerToken), email, bearerToken);
+            }).toList());
+
+            List<Long> todoIds = collect(executor, IntStream.range(0, todoCount).mapToObj(i -> (Callable<Long>) () -> {
+                SeededUser owner = users.get(i % users.size());
+                long todoId = client.createTodo(owner.bearerToken(), "title " + i, "contents " + i);
+                if (users.size() > 1) {
+                    SeededUser manager = users.get((i + 1) % users.size());
+                    client.readRequired(client.post("/todos/" + todoId + "/managers/bulk", owner.bearerToken(),
+                            Map.of("managerUserIds", List.of(manager.id()))), "담당자 등록");
+                }
+                if (commentsPerTodo > 0) {
+                    List<Map<String, String>> comments = IntStream.range(0, commentsPerTodo)
+                            .mapToObj(c -> Map.of("contents", "comment " + c))
+                            .toList();
+                    client.readRequired(client.post("/todos/" + todoId + "/comments/bulk", owner.bearerToken(),
+                            Map.of("comments", comments)), "댓글 등록");
+                }
+                return todoId;
+            }).toList());
+
+            return new SeedData(users, todoIds.stream().mapToLong(Long::longValue).toArray());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public SeededUser randomUser(Random random) {
+        return users.get(random.nextInt(users.size()));
+    }
+
+    public long randomTodoId(Random random) {
+        return todoIds[random.nextInt(todoIds.length)];
+    }
+
+    public int userCount() {
+        return users.size();
+    }
+
+    public int todoCount() {
+        return todoIds.length;
+    }
+
+    private static <T> List<T> collect(ExecutorService executor, List<Callable<T>> tasks) throws Exception {
+        List<Future<T>> futures = executor.invokeAll(tasks);
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    // 토큰의 subject 가 유저 id (서명 검증 없이 payload 만 읽는다)
+    private static long userIdOf(String bearerToken) throws Exception {
+        String payload = bearerToken.substring("Bearer ".length()).split("\\.")[1];
+        byte[] json = Base64.getUrlDecoder().decode(payload);
+        return new ObjectMapper().readTree(new String(json, StandardCharsets.UTF_8)).get("sub").asLong();
+    }
+}
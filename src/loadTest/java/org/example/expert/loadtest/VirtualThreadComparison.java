@@ -0,0 +1,81 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.config.VirtualThreadPinningMonitor;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 같은 부하를 플랫폼 스레드(Tomcat 스레드 풀) 모드와 가상 스레드 모드로 각각 띄운 애플리케이션에 걸어 처리량과 지연 시간을 비교한다.
+ * 클라이언트는 동시 접속 수만큼의 스레드가 닫힌 루프(LoadDriver)로 GET /todos (매 요청 JDBC 조회) 를 반복한다.
+ * 가상 스레드 모드는 Java 21 이상에서만 실행되며, 그보다 낮으면 플랫폼 스레드 결과만 남긴다.
+ */
+public class VirtualThreadComparison {
+
+    private static final String PASSWORD = "loadtest-password";
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 1000);
+        Duration duration = Duration.parse("PT" + System.getProperty("loadtest.duration", "30s"));
+        Duration warmup = Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s"));
+        int todos = Integer.getInteger("loadtest.todos", 1000);
+        String dbPoolSize = System.getProperty("loadtest.dbPoolSize", "50");
+        File report = new File(System.getProperty("loadtest.report", "build/reports/loadtest/virtual-threads.json"));
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("javaVersion", Runtime.version().toString());
+        results.put("concurrency", concurrency);
+        results.put("durationSeconds", duration.toSeconds());
+        results.put("dbPoolSize", Integer.parseInt(dbPoolSize));
+
+        results.put("platform", run(false, concurrency, duration, warmup, todos, dbPoolSize));
+        if (Runtime.version().feature() >= 21) {
+            results.put("virtual", run(true, concurrency, duration, warmup, todos, dbPoolSize));
+        } else {
+            System.out.println("Java " + Runtime.version().feature() + " 에서는 가상 스레드 모드를 건너뜁니다. -PjavaVersion=21 로 실행하세요.");
+        }
+
+        report.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report, results);
+        System.out.println("report: " + report.getAbsolutePath());
+    }
+
+    private static Map<String, Object> run(boolean virtualThreads, int concurrency, Duration duration, Duration warmup,
+                                           int todos, String dbPoolSize) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (LoadTestServer server = LoadTestServer.start(Map.of(
+                "spring.threads.virtual.enabled", String.valueOf(virtualThreads),
+                "spring.datasource.hikari.maximum-pool-size", dbPoolSize
+        ))) {
+            LoadTestClient client = new LoadTestClient(server.baseUrl());
+            String bearerToken = client.signup("loadtest@example.com", PASSWORD, "USER");
+            for (int i = 0; i < todos; i++) {
+                client.createTodo(bearerToken, "title " + i, "contents " + i);
+            }
+            int pages = Math.max(1, todos / 10);
+
+            List<LoadDriver.WeightedOperation> listTodos = List.of(new LoadDriver.WeightedOperation("listTodos", 1,
+                    random -> client.get("/todos?page=" + (random.nextInt(pages) + 1) + "&size=10", bearerToken)));
+
+            LoadDriver.run(listTodos, concurrency, warmup);
+            LatencyHistogram histogram = LoadDriver.run(listTodos, concurrency, duration).get("listTodos");
+
+            Map<String, Object> result = LoadDriver.summarize(histogram, duration);
+            VirtualThreadPinningMonitor pinningMonitor = server.getBeanIfAvailable(VirtualThreadPinningMonitor.class);
+            if (pinningMonitor != null) {
+                result.put("pinnedEvents", pinningMonitor.getPinnedCount());
+                result.put("pinnedSites", pinningMonitor.getPinnedCountBySite());
+            }
+
+            System.out.printf("%-8s %,10.1f req/s  p50 %8.2fms  p99 %8.2fms  max %8.2fms  errors %d%n",
+                    mode, result.get("requestsPerSecond"), result.get("p50Millis"), result.get("p99Millis"),
+                    result.get("maxMillis"), histogram.errors());
+            return result;
+        }
+    }
+}
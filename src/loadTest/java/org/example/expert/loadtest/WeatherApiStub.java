@@ -0,0 +1,54 @@
+package org.example.expert.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.StringJoiner;
+
+/**
+ * 외부 날씨 API 대신 /f-api/weather.json 을 응답하는 로컬 HTTP 서버.
+ * 윤년 기준 366일 데이터를 한 번 만들어 두고 그대로 돌려준다.
+ */
+public class WeatherApiStub implements AutoCloseable {
+
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy"};
+
+    private final HttpServer server;
+
+    public WeatherApiStub() throws IOException {
+        byte[] body = weatherJson();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/f-api/weather.json", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static byte[] weatherJson() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        StringJoiner json = new StringJoiner(",", "[", "]");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int day = 0; day < 366; day++) {
+            json.add("{\"date\":\"" + date.plusDays(day).format(formatter) + "\",\"weather\":\"" + WEATHERS[day % WEATHERS.length] + "\"}");
+        }
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
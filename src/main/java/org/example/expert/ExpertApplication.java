@@ -4,6 +4,8 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
 
+import java.util.Map;
+
 import static org.springframework.data.web.config.EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO;
 
 @SpringBootApplication
@@ -11,7 +13,23 @@ import static org.springframework.data.web.config.EnableSpringDataWebSupport.Pag
 public class ExpertApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(ExpertApplication.class, args);
+        SpringApplication application = new SpringApplication(ExpertApplication.class);
+        application.setDefaultProperties(defaultProperties());
+        application.run(args);
+    }
+
+    // 설정 파일 없이 실행하므로 기본값은 여기에 둔다. 환경 변수나 실행 인자로 덮어쓸 수 있다.
+    // actuator 는 서비스 포트가 아닌 별도 관리 포트로 연다. 관리 포트에는 JWT 필터가 적용되지 않으므로 외부에 공개하지 않는다.
+    // 비동기 응답(댓글 NDJSON 내보내기)의 제한 시간. 지정하지 않으면 컨테이너 기본값(Tomcat 30초)에서 스트림이 200 응답인 채로 잘린다.
+    // open-in-view 를 끄면 트랜잭션이 끝날 때 DB 커넥션을 반납하므로, 트랜잭션 밖의 BCrypt 해싱 동안 커넥션을 잡고 있지 않는다.
+    public static Map<String, Object> defaultProperties() {
+        return Map.of(
+                "spring.jpa.open-in-view", "false",
+                "spring.mvc.async.request-timeout", "30m",
+                "management.server.port", "8081",
+                "management.endpoints.web.exposure.include", "health,prometheus",
+                "management.endpoint.health.probes.enabled", "true"
+        );
     }
 
 }
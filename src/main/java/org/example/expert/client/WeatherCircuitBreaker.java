@@ -0,0 +1,113 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 날씨 API 연속 실패 시 일정 시간 동안 호출을 차단하는 서킷 브레이커.
+ * CLOSED -> (연속 실패 N회) -> OPEN -> (대기 시간 경과) -> HALF_OPEN -> 시험 호출 1회 결과에 따라 CLOSED/OPEN
+ */
+@Slf4j(topic = "WeatherCircuitBreaker")
+@Component
+public class WeatherCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInProgress;
+
+    @Autowired
+    public WeatherCircuitBreaker(
+            @Value("${weather.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration:30s}") Duration openDuration
+    ) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    WeatherCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && clock.millis() - openedAt >= openDuration.toMillis()) {
+                state = State.HALF_OPEN;
+                trialInProgress = false;
+            }
+
+            return switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    // 반열림 상태에서는 시험 호출 하나만 허용
+                    if (trialInProgress) {
+                        yield false;
+                    }
+                    trialInProgress = true;
+                    yield true;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (state != State.CLOSED) {
+                log.info("날씨 API 서킷 브레이커 CLOSED");
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInProgress = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                if (state != State.OPEN) {
+                    log.warn("날씨 API 서킷 브레이커 OPEN - 연속 실패 {}회", consecutiveFailures);
+                }
+                state = State.OPEN;
+                openedAt = clock.millis();
+                trialInProgress = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
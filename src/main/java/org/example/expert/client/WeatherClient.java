@@ -1,62 +1,263 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 날씨 데이터는 하루에 한 번 바뀌므로 연간 데이터를 WeatherDataStore 에 적재해 두고 조회한다.
+ * 캐시가 오래되면 기존 값을 그대로 반환하면서 백그라운드에서 갱신하고(stale-while-revalidate),
+ * 자정 전에 스케줄러가 미리 갱신하므로 원격 호출이 일정 등록 경로에 놓이지 않는다.
+ * 원격 호출은 단일 스레드에서 한 번에 하나만 진행되며(single-flight), connect/read 타임아웃과 서킷 브레이커를 적용하고,
+ * 데이터를 얻지 못하면 설정된 대체 값(고정 값 또는 마지막으로 조회된 값)을 반환한다.
+ */
+@Slf4j(topic = "WeatherClient")
 @Component
 public class WeatherClient {
 
+    public static final String LAST_KNOWN = "LAST_KNOWN";
+
     private final RestTemplate restTemplate;
+    private final WeatherDataStore weatherDataStore;
+    private final WeatherCircuitBreaker circuitBreaker;
+    private final String fallback;
+    private final URI weatherApiUri;
+    private final String dataFile;
+    private final Duration maxAge;
+    private final Duration coldStartTimeout;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter circuitBreakerRejections;
+    private final Counter fallbacks;
+
+    private final AtomicReference<CompletableFuture<WeatherTable>> inFlight = new AtomicReference<>();
+    private final AtomicReference<String> lastKnownWeather = new AtomicReference<>();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "weather-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            WeatherDataStore weatherDataStore,
+            WeatherCircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry,
+            @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.api.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${weather.api.read-timeout:2s}") Duration readTimeout,
+            @Value("${weather.fallback:unknown}") String fallback,
+            @Value("${weather.data.file:}") String dataFile,
+            @Value("${weather.cache.max-age:6h}") Duration maxAge,
+            @Value("${weather.cache.cold-start-timeout:3s}") Duration coldStartTimeout
+    ) {
+        this.restTemplate = builder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+        this.weatherDataStore = weatherDataStore;
+        this.circuitBreaker = circuitBreaker;
+        this.fallback = fallback;
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+        this.dataFile = dataFile;
+        this.maxAge = maxAge;
+        this.coldStartTimeout = coldStartTimeout;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+        this.meterRegistry = meterRegistry;
+        this.successTimer = requestTimer(meterRegistry, "success");
+        this.failureTimer = requestTimer(meterRegistry, "failure");
+        this.circuitBreakerRejections = rejectionCounter(meterRegistry, "circuit_breaker");
+        this.fallbacks = Counter.builder("weather.client.fallbacks")
+                .description("날씨 데이터 대신 대체 값을 반환한 횟수")
+                .register(meterRegistry);
     }
 
     public String getTodayWeather() {
+        return getWeather(LocalDate.now());
+    }
+
+    public String getWeather(LocalDate date) {
+        if (!weatherDataStore.isLoaded()) {
+            // 아직 한 번도 불러오지 못한 경우에만 제한된 시간 동안 로딩을 기다림
+            if (!awaitColdStart()) {
+                return fallbackWeather(date);
+            }
+        } else if (weatherDataStore.isOlderThan(maxAge)) {
+            // 오래된 캐시는 그대로 반환하고 갱신은 백그라운드에서 진행
+            refreshAsync();
+        }
+
+        String weather = weatherDataStore.find(date).orElse(null);
+        if (weather == null) {
+            return fallbackWeather(date);
+        }
+        lastKnownWeather.set(weather);
+        return weather;
+    }
+
+    // 대체 값 없이 실제 데이터만 조회 (비동기 보강용). 아직 적재 전이면 갱신만 요청하고 기다리지 않는다.
+    public Optional<String> findWeather(LocalDate date) {
+        if (!weatherDataStore.isLoaded() || weatherDataStore.isOlderThan(maxAge)) {
+            refreshAsync();
+        }
+        return weatherDataStore.find(date);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshAsync();
+    }
+
+    // 자정 직전에 미리 갱신해서 날짜가 바뀐 직후의 요청도 캐시로 처리
+    @Scheduled(cron = "${weather.cache.refresh-cron:0 50 23 * * *}")
+    public void scheduledRefresh() {
+        refreshAsync();
+    }
+
+    public CompletableFuture<WeatherTable> refreshAsync() {
+        CompletableFuture<WeatherTable> running = inFlight.get();
+        if (running != null) {
+            return running;
+        }
+
+        CompletableFuture<WeatherTable> next = new CompletableFuture<>();
+        if (!inFlight.compareAndSet(null, next)) {
+            // 다른 스레드가 먼저 갱신을 시작했다면 그 결과를 함께 기다림
+            CompletableFuture<WeatherTable> other = inFlight.get();
+            return other != null ? other : refreshAsync();
+        }
+
+        refreshExecutor.execute(() -> {
+            // 완료를 알리기 전에 inFlight 를 비워야 대기하던 스레드가 새 갱신을 시작할 수 있다.
+            try {
+                WeatherTable table = load();
+                inFlight.set(null);
+                next.complete(table);
+            } catch (Exception e) {
+                log.warn("날씨 데이터 갱신 실패: {}", e.getMessage());
+                inFlight.set(null);
+                next.completeExceptionally(e);
+            }
+        });
+        return next;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // 제한 시간 안에 적재되면 true, 실패하거나 시간을 넘기면 false
+    private boolean awaitColdStart() {
+        try {
+            refreshAsync().get(coldStartTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("날씨 데이터를 제한 시간 안에 불러오지 못했습니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private String fallbackWeather(LocalDate date) {
+        String weather = LAST_KNOWN.equals(fallback) ? lastKnownWeather.get() : fallback;
+        if (weather == null) {
+            throw new ServerException("해당 날짜의 날씨 데이터를 찾을 수 없습니다: " + date);
+        }
+        fallbacks.increment();
+        log.warn("날씨 데이터 대신 대체 값을 사용합니다. date={}, fallback={}", date, weather);
+        return weather;
+    }
+
+    private WeatherTable load() {
+        // 로컬 파일이 지정되어 있으면 네트워크 없이 적재
+        if (StringUtils.hasText(dataFile)) {
+            return weatherDataStore.loadFromFile(Path.of(dataFile));
+        }
+        return weatherDataStore.replace(fetchWeatherData());
+    }
+
+    // refreshExecutor 에서만 호출되므로 원격 호출이 동시에 둘 이상 진행되지 않는다.
+    private WeatherDto[] fetchWeatherData() {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitBreakerRejections.increment();
+            throw new ServerException("날씨 API 서킷 브레이커가 열려 있습니다.");
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            WeatherDto[] weatherArray = requestWeatherData();
+            circuitBreaker.onSuccess();
+            sample.stop(successTimer);
+            return weatherArray;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            sample.stop(failureTimer);
+            throw e;
+        }
+    }
+
+    private WeatherDto[] requestWeatherData() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
             throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
         }
         if (weatherArray == null || weatherArray.length == 0) {
-                throw new ServerException("날씨 데이터가 없습니다.");
+            throw new ServerException("날씨 데이터가 없습니다.");
         }
+        return weatherArray;
+    }
 
+    private static Timer requestTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("weather.client.requests")
+                .description("날씨 API 호출 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 
-        String today = getCurrentDate();
-
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
-        }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("weather.client.rejections")
+                .description("호출하지 않고 거절한 날씨 API 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
     }
 
-    private URI buildWeatherApiUri() {
+    private URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
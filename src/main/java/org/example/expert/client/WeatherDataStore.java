@@ -0,0 +1,73 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 날씨 데이터를 한 번 적재해 두고 임의의 날짜로 조회할 수 있게 하는 저장소.
+ * 원격 API 응답(WeatherClient) 또는 로컬 JSON 파일로 다시 적재할 수 있으며,
+ * 조회는 네트워크를 전혀 사용하지 않으므로 기존 일정의 날씨 backfill 에도 사용할 수 있다.
+ */
+@Slf4j(topic = "WeatherDataStore")
+@Component
+public class WeatherDataStore {
+
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Loaded> loaded = new AtomicReference<>();
+
+    public WeatherDataStore(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public WeatherTable replace(WeatherDto[] weatherArray) {
+        if (weatherArray == null || weatherArray.length == 0) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+
+        WeatherTable table = WeatherTable.from(weatherArray);
+        loaded.set(new Loaded(table, Instant.now()));
+        log.info("날씨 데이터 적재 완료: {}일", table.size());
+        return table;
+    }
+
+    public WeatherTable loadFromFile(Path path) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return replace(objectMapper.readValue(inputStream, WeatherDto[].class));
+        } catch (IOException e) {
+            throw new ServerException("날씨 데이터 파일을 읽을 수 없습니다: " + path);
+        }
+    }
+
+    public Optional<String> find(LocalDate date) {
+        Loaded current = loaded.get();
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current.table().get(date));
+    }
+
+    public boolean isLoaded() {
+        return loaded.get() != null;
+    }
+
+    public boolean isOlderThan(Duration maxAge) {
+        Loaded current = loaded.get();
+        return current == null || current.loadedAt().plus(maxAge).isBefore(Instant.now());
+    }
+
+    private record Loaded(WeatherTable table, Instant loadedAt) {
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+
+/**
+ * 연간 날씨 데이터를 day-of-year 배열로 보관하는 불변 테이블.
+ * 윤년 기준(366일)으로 인덱싱하므로 02-29 를 포함한 모든 MM-dd 를 O(1) 로 조회할 수 있다.
+ */
+public final class WeatherTable {
+
+    private static final int[] DAYS_BEFORE_MONTH = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+
+    private final String[] weatherByDay;
+    private final int size;
+
+    private WeatherTable(String[] weatherByDay, int size) {
+        this.weatherByDay = weatherByDay;
+        this.size = size;
+    }
+
+    public static WeatherTable from(WeatherDto[] weatherArray) {
+        String[] weatherByDay = new String[366];
+        int size = 0;
+
+        for (WeatherDto weatherDto : weatherArray) {
+            if (weatherDto == null || weatherDto.getDate() == null) {
+                continue;
+            }
+            // 날짜 형식은 MM-dd
+            MonthDay monthDay = MonthDay.parse("--" + weatherDto.getDate());
+            int index = indexOf(monthDay.getMonthValue(), monthDay.getDayOfMonth());
+            if (weatherByDay[index] == null) {
+                size++;
+            }
+            weatherByDay[index] = weatherDto.getWeather();
+        }
+        return new WeatherTable(weatherByDay, size);
+    }
+
+    public String get(LocalDate date) {
+        return weatherByDay[indexOf(date.getMonthValue(), date.getDayOfMonth())];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int indexOf(int month, int dayOfMonth) {
+        return DAYS_BEFORE_MONTH[month - 1] + dayOfMonth - 1;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.config;
+
+import java.time.Instant;
+
+/**
+ * 어드민 API 호출 한 건의 감사 기록.
+ * requestBody/responseBody 는 본문 샘플링에 걸린 호출만 채워지며, 요청 스레드에서 최대 길이까지만 직렬화한 JSON 문자열이다.
+ */
+public record AdminAuditEvent(
+        Instant timestamp,
+        Long userId,
+        String email,
+        String userRole,
+        String httpMethod,
+        String url,
+        String handler,
+        long durationNanos,
+        String error,
+        String requestBody,
+        String responseBody
+) {
+
+    public boolean hasBody() {
+        return requestBody != null || responseBody != null;
+    }
+}
@@ -0,0 +1,319 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 어드민 API 감사 기록을 요청 스레드 밖에서 남긴다.
+ * 요청 스레드는 샘플링된 본문을 최대 길이까지만 문자열로 직렬화해 고정 크기 큐에 넣고(가득 차면 버리고 집계),
+ * 전용 스레드가 배치로 꺼내 기록한다. 큐에는 요청/응답 객체 참조가 남지 않으므로 메모리는 큐 크기 x 최대 길이로 제한된다. audit.file 이 지정되면 JSON Lines 파일에, 아니면 "AdminAudit" 로거에 한 줄씩 남긴다.
+ */
+@Slf4j(topic = "AdminAuditLogger")
+@Component
+public class AdminAuditLogger {
+
+    private static final Logger auditLog = LoggerFactory.getLogger("AdminAudit");
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final BlockingQueue<AdminAuditEvent> queue;
+    private final int batchSize;
+    private final double bodySampleRate;
+    private final int bodyMaxLength;
+    private final Path file;
+
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder truncatedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    // 드롭이 시작될 때 한 번만 경고하고, 이후 배치가 다시 기록되면 초기화한다.
+    private final AtomicBoolean dropWarned = new AtomicBoolean();
+
+    private volatile boolean running;
+    private Thread writer;
+    private BufferedWriter fileWriter;
+
+    public AdminAuditLogger(
+            ObjectMapper objectMapper,
+            @Value("${audit.enabled:true}") boolean enabled,
+            @Value("${audit.queue-capacity:4096}") int queueCapacity,
+            @Value("${audit.batch-size:256}") int batchSize,
+            @Value("${audit.body-sample-rate:1.0}") double bodySampleRate,
+            @Value("${audit.body-max-length:2048}") int bodyMaxLength,
+            @Value("${audit.file:}") String file
+    ) {
+        if (queueCapacity <= 0 || batchSize <= 0 || bodySampleRate < 0 || bodySampleRate > 1 || bodyMaxLength < 0) {
+            throw new IllegalArgumentException("audit 설정이 올바르지 않습니다.");
+        }
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.bodySampleRate = bodySampleRate;
+        this.bodyMaxLength = bodyMaxLength;
+        this.file = file.isBlank() ? null : Path.of(file);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "admin-audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 종료 시 기록 스레드를 멈춘 뒤 큐에 남은 이벤트를 모두 기록하고 파일을 닫는다.
+    // 기록 스레드가 끝나지 않으면 같은 파일에 두 스레드가 쓰지 않도록 남은 이벤트는 버린 것으로 집계한다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+            if (writer.isAlive()) {
+                int remaining = queue.size();
+                queue.clear();
+                droppedCount.add(remaining);
+                log.warn("감사 로그 기록 스레드가 {}ms 안에 끝나지 않아 남은 이벤트 {}건을 버립니다.", SHUTDOWN_TIMEOUT_MILLIS, remaining);
+                return;
+            }
+        }
+        drain();
+        closeFile();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 본문을 남길 호출인지 요청 스레드에서 먼저 정해, 샘플링에서 빠진 호출은 본문 참조도 잡아 두지 않는다.
+    public boolean shouldCaptureBody() {
+        return bodySampleRate >= 1.0 || (bodySampleRate > 0 && ThreadLocalRandom.current().nextDouble() < bodySampleRate);
+    }
+
+    // 요청 스레드에서 호출. 큐가 가득 차면 기다리지 않고 버린다.
+    public void submit(AdminAuditEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            droppedCount.increment();
+            if (dropWarned.compareAndSet(false, true)) {
+                log.warn("감사 로그 큐가 가득 차 이벤트를 버립니다. (capacity {})", queue.remainingCapacity() + queue.size());
+            }
+        }
+    }
+
+    private void runWriter() {
+        List<AdminAuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AdminAuditEvent first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("감사 로그 기록 실패", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 큐에 쌓인 이벤트를 호출 스레드에서 모두 기록한다.
+    void drain() {
+        List<AdminAuditEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AdminAuditEvent> batch) {
+        if (file == null) {
+            for (AdminAuditEvent event : batch) {
+                auditLog.info(format(event));
+            }
+        } else {
+            try {
+                BufferedWriter out = openFile();
+                for (AdminAuditEvent event : batch) {
+                    out.write(format(event));
+                    out.newLine();
+                }
+                out.flush();
+            } catch (IOException e) {
+                failedCount.add(batch.size());
+                log.warn("감사 로그 파일 기록 실패 - {}", file, e);
+                return;
+            }
+        }
+        writtenCount.add(batch.size());
+        dropWarned.set(false);
+    }
+
+    String format(AdminAuditEvent event) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("timestamp", event.timestamp().toString());
+        line.put("userId", event.userId());
+        line.put("email", event.email());
+        line.put("userRole", event.userRole());
+        line.put("method", event.httpMethod());
+        line.put("url", event.url());
+        line.put("handler", event.handler());
+        line.put("durationMs", event.durationNanos() / 1_000_000.0);
+        if (event.error() != null) {
+            line.put("error", event.error());
+        }
+        if (event.requestBody() != null) {
+            line.put("requestBody", event.requestBody());
+        }
+        if (event.responseBody() != null) {
+            line.put("responseBody", event.responseBody());
+        }
+        try {
+            return objectMapper.writeValueAsString(line);
+        } catch (Exception e) {
+            return line.toString();
+        }
+    }
+
+    // 요청 스레드에서 호출. 최대 길이에 닿으면 직렬화를 중단해, 큰 본문도 bodyMaxLength 만큼만 메모리에 만든다.
+    public String serializeBody(Object body) {
+        CappedWriter out = new CappedWriter(bodyMaxLength);
+        try {
+            objectMapper.writeValue(out, body);
+        } catch (Exception e) {
+            if (!out.isTruncated()) {
+                return "직렬화 실패: " + body.getClass().getName();
+            }
+        }
+        if (!out.isTruncated()) {
+            return out.toString();
+        }
+        truncatedCount.increment();
+        return out + "...(truncated at " + bodyMaxLength + " chars)";
+    }
+
+    private BufferedWriter openFile() throws IOException {
+        if (fileWriter == null) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // 종료 시 기록 스레드를 interrupt 하므로, interrupt 에 채널이 닫히는 FileChannel 대신 FileOutputStream 을 쓴다.
+            fileWriter = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(file.toFile(), true), StandardCharsets.UTF_8));
+        }
+        return fileWriter;
+    }
+
+    private void closeFile() {
+        if (fileWriter == null) {
+            return;
+        }
+        try {
+            fileWriter.close();
+        } catch (IOException e) {
+            log.warn("감사 로그 파일 닫기 실패 - {}", file, e);
+        }
+        fileWriter = null;
+    }
+
+    // maxLength 를 넘는 쓰기가 들어오면 앞부분만 남기고 예외로 직렬화를 멈추는 Writer
+    private static final class CappedWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+        private final int maxLength;
+        private boolean truncated;
+
+        private CappedWriter(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int remaining = maxLength - buffer.length();
+            if (length <= remaining) {
+                buffer.append(chars, offset, length);
+                return;
+            }
+            buffer.append(chars, offset, remaining);
+            truncated = true;
+            throw new IOException("감사 로그 본문 최대 길이 초과");
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getTruncatedCount() {
+        return truncatedCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 JWT 의 사용자 정보를 토큰 만료 시각까지 보관하는 캐시.
+ * 토큰 원문 대신 SHA-256 digest 를 키로 사용하고, 항목별 만료는 토큰의 exp 로 정한다.
+ * 모든 인증 요청이 거치므로 전역 락 없이 동작하는 Caffeine 에 크기 제한(W-TinyLFU)과 만료 정리를 맡긴다.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final int maxSize;
+    private final Cache<String, JwtPrincipal> entries;
+
+    public JwtClaimsCache(@Value("${jwt.cache.max-size:" + DEFAULT_MAX_SIZE + "}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .expireAfter(new TokenExpiry())
+                // 정리 작업은 짧으므로 공용 풀로 넘기지 않고 호출 스레드에서 처리한다.
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    public JwtPrincipal get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        return entries.getIfPresent(digest(token));
+    }
+
+    public void put(String token, JwtPrincipal principal) {
+        if (maxSize <= 0 || principal.expiresAt() <= System.currentTimeMillis()) {
+            return;
+        }
+        entries.put(digest(token), principal);
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    public int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+
+    public long getHitCount() {
+        return entries.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return entries.stats().missCount();
+    }
+
+    // 크기 제한과 토큰 만료로 제거된 항목 수
+    public long getEvictionCount() {
+        return entries.stats().evictionCount();
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 토큰의 exp 까지 남은 시간을 항목의 수명으로 사용한다. 조회/갱신으로 수명이 늘어나지 않는다.
+    private static final class TokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            long remainingMillis = principal.expiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
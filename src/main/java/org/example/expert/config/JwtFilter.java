@@ -1,24 +1,39 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterConfig;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final Counter missingTokenCounter;
+    private final Counter invalidSignatureCounter;
+    private final Counter expiredCounter;
+    private final Counter unsupportedCounter;
+    private final Counter invalidTokenCounter;
+
+    public JwtFilter(JwtUtil jwtUtil, JwtClaimsCache jwtClaimsCache, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.missingTokenCounter = failureCounter(meterRegistry, "missing");
+        this.invalidSignatureCounter = failureCounter(meterRegistry, "invalid_signature");
+        this.expiredCounter = failureCounter(meterRegistry, "expired");
+        this.unsupportedCounter = failureCounter(meterRegistry, "unsupported");
+        this.invalidTokenCounter = failureCounter(meterRegistry, "invalid");
+    }
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -32,6 +47,7 @@ public class JwtFilter implements Filter {
 
         String url = httpRequest.getRequestURI();
 
+        // actuator 는 별도 관리 포트(management.server.port)의 자식 컨텍스트에서 서비스되어 이 필터를 거치지 않는다.
         if (url.startsWith("/auth")) {
             chain.doFilter(request, response);
             return;
@@ -41,50 +57,69 @@ public class JwtFilter implements Filter {
 
         if (bearerJwt == null) {
             // 토큰이 없는 경우 400을 반환합니다.
+            missingTokenCounter.increment();
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "JWT 토큰이 필요합니다.");
             return;
         }
 
         String jwt = jwtUtil.substringToken(bearerJwt);
 
+        // 토큰 검증 실패만 JWT 오류로 처리하고, 이후 필터 체인에서 발생한 예외는 그대로 전파한다.
+        JwtPrincipal principal;
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
-                return;
-            }
-
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
-
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
-
-            if (url.startsWith("/admin")) {
-                // 관리자 권한이 없는 경우 403을 반환합니다.
-                if (!UserRole.ADMIN.equals(userRole)) {
-                    httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
-                    return;
-                }
-                chain.doFilter(request, response);
-                return;
+            // 이미 검증된 토큰이면 서명 검증과 claims 파싱을 건너뜀
+            principal = jwtClaimsCache.get(jwt);
+            if (principal == null) {
+                // JWT 유효성 검사와 사용자 정보 추출
+                principal = jwtUtil.verifyToken(jwt);
+                jwtClaimsCache.put(jwt, principal);
             }
-
-            chain.doFilter(request, response);
         } catch (SecurityException | MalformedJwtException e) {
+            invalidSignatureCounter.increment();
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
+            return;
         } catch (ExpiredJwtException e) {
+            expiredCounter.increment();
             log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
+            return;
         } catch (UnsupportedJwtException e) {
+            unsupportedCounter.increment();
             log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
+            return;
         } catch (Exception e) {
+            invalidTokenCounter.increment();
             log.error("Invalid JWT token, 유효하지 않는 JWT 토큰 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "유효하지 않는 JWT 토큰입니다.");
+            return;
+        }
+
+        UserRole userRole = principal.userRole();
+
+        httpRequest.setAttribute("userId", principal.userId());
+        httpRequest.setAttribute("email", principal.email());
+        httpRequest.setAttribute("userRole", userRole.name());
+
+        if (url.startsWith("/admin")) {
+            // 관리자 권한이 없는 경우 403을 반환합니다.
+            if (!UserRole.ADMIN.equals(userRole)) {
+                httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
         }
+
+        chain.doFilter(request, response);
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("jwt.validation.failures")
+                .description("JWT 검증 실패 수")
+                .tag("type", type)
+                .register(meterRegistry);
     }
 
     @Override
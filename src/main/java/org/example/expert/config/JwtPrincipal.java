@@ -0,0 +1,9 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+
+/**
+ * 서명 검증을 마친 JWT 에서 꺼낸 사용자 정보와 만료 시각(epoch millis).
+ */
+public record JwtPrincipal(Long userId, String email, UserRole userRole, long expiresAt) {
+}
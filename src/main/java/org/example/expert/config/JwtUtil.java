@@ -1,6 +1,7 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -23,43 +24,61 @@ public class JwtUtil {
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
-    @Value("${jwt.secret.key}")
-    private String secretKey;
-    private Key key;
+    private final String secretKey;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private Key key;
+    // 파서는 불변이고 thread-safe 하므로 한 번만 만들어 재사용
+    private JwtParser jwtParser;
+
+    public JwtUtil(@Value("${jwt.secret.key}") String secretKey) {
+        this.secretKey = secretKey;
+    }
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
-        Date date = new Date();
+        long now = System.currentTimeMillis();
 
         return BEARER_PREFIX +
                 Jwts.builder()
                         .setSubject(String.valueOf(userId))
                         .claim("email", email)
-                        .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
-                        .setIssuedAt(date) // 발급일
+                        .claim("userRole", userRole.name())
+                        .setExpiration(new Date(now + TOKEN_TIME))
+                        .setIssuedAt(new Date(now)) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
     public String substringToken(String tokenValue) {
         if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
-            return tokenValue.substring(7);
+            return tokenValue.substring(BEARER_PREFIX.length());
         }
         throw new ServerException("Not Found Token");
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    // 서명 검증 후 필요한 값만 꺼내 Claims 맵 대신 작은 principal 로 반환
+    public JwtPrincipal verifyToken(String token) {
+        Claims claims = extractClaims(token);
+
+        return new JwtPrincipal(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class)),
+                claims.getExpiration().getTime()
+        );
+    }
 }
@@ -1,75 +1,114 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.HttpEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
-import java.util.Objects;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
-@Slf4j
+/**
+ * 어드민 API(도메인별 *AdminController) 호출마다 감사 이벤트 하나를 만들어 AdminAuditLogger 에 넘긴다.
+ * 샘플링된 본문은 요청 스레드에서 호출 시점의 상태로 직렬화(최대 길이까지)하고, 기록은 AdminAuditLogger 의 기록 스레드가 한다.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class LoggingAspect {
 
-    private final ObjectMapper objectMapper;
+    private final AdminAuditLogger adminAuditLogger;
 
-    @Pointcut("execution(* org.example.expert.domain.user.controller.UserAdminController.*(..))")
+    @Pointcut("execution(* org.example.expert.domain..controller.*AdminController.*(..))")
     public void controller(){
     }
 
     @Around("controller()")
     public Object loggingAdminApi(ProceedingJoinPoint joinPoint) throws Throwable{
-        HttpServletRequest request = ((ServletRequestAttributes) Objects
-                .requireNonNull(RequestContextHolder.getRequestAttributes()))
-                .getRequest();
+        if (!adminAuditLogger.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        Instant requestedAt = Instant.now();
+        long startedAt = System.nanoTime();
+        boolean captureBody = adminAuditLogger.shouldCaptureBody();
+        Map<String, Object> arguments = captureBody ? arguments(joinPoint) : null;
+        String requestBody = arguments == null ? null : adminAuditLogger.serializeBody(arguments);
+
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            long durationNanos = System.nanoTime() - startedAt;
+            Object responseBody = captureBody && failure == null ? unwrap(result) : null;
+            adminAuditLogger.submit(event(joinPoint, requestedAt, durationNanos, failure, requestBody,
+                    responseBody == null ? null : adminAuditLogger.serializeBody(responseBody)));
+        }
+    }
 
+    private AdminAuditEvent event(ProceedingJoinPoint joinPoint, Instant requestedAt, long durationNanos,
+                                  Throwable failure, String requestBody, String responseBody) {
         // JWT 필터에서 설정한 속성 추출
-        Long userId = (Long) request.getAttribute("userId");
-        String email = (String) request.getAttribute("email");
-        String userRole = (String) request.getAttribute("userRole");
+        HttpServletRequest request = currentRequest();
+        Long userId = request == null ? null : (Long) request.getAttribute("userId");
+        String email = request == null ? null : (String) request.getAttribute("email");
+        String userRole = request == null ? null : (String) request.getAttribute("userRole");
 
-        log.info("Request User ID = {}", userId);
-        log.info("Request Email = {}", email);
-        log.info("Request User Role = {}", userRole);
-        log.info("Request Time = {}", LocalDateTime.now());
-        log.info("Request URL = {}", request.getRequestURL());
+        return new AdminAuditEvent(
+                requestedAt,
+                userId,
+                email,
+                userRole,
+                request == null ? null : request.getMethod(),
+                request == null ? null : request.getRequestURL().toString(),
+                joinPoint.getSignature().toShortString(),
+                durationNanos,
+                failure == null ? null : failure.getClass().getName(),
+                requestBody,
+                responseBody
+        );
+    }
 
-        //Request Body
-        for(Object arg : joinPoint.getArgs()){
-            if(!(arg instanceof HttpServletRequest) && !(arg instanceof HttpServletResponse)){
+    // 서블릿 요청/응답 객체를 제외한 컨트롤러 인자(경로 변수, 요청 본문)를 파라미터 이름으로 모은다.
+    private Map<String, Object> arguments(ProceedingJoinPoint joinPoint) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            if (arg instanceof ServletRequest || arg instanceof ServletResponse) {
                 continue;
             }
-
-            try {
-                String requestBodyJson = new ObjectMapper().writeValueAsString(arg);
-                log.info("RequestBody = {}", requestBodyJson);
-            } catch (Exception e) {
-                log.warn("Failed to serialize request body: {}", arg.getClass().getName());
-            }
+            arguments.put(names != null ? names[i] : "arg" + i, arg);
         }
+        return arguments.isEmpty() ? null : arguments;
+    }
 
-        //메서드 실행
-        Object result = joinPoint.proceed();
-
-        //ResponseBody
-        try{
-            String responseBody = objectMapper.writeValueAsString(result);
-            log.info("ResponseBody ={}", responseBody);
-        } catch (Exception e) {
-            log.warn("Failed to serialize response body: {}", result);
-        }
+    // 스트리밍 응답(댓글 export 등)은 본문이 아니라 쓰기 콜백이므로 기록하지 않는다.
+    private Object unwrap(Object result) {
+        Object body = result instanceof HttpEntity<?> entity ? entity.getBody() : result;
+        return body instanceof StreamingResponseBody ? null : body;
+    }
 
-        return result;
+    private HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
     }
 }
@@ -0,0 +1,157 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.example.expert.domain.todo.service.TodoCounter;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.todo.service.TodoWeatherEnricher;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 지연 시간 히스토그램 설정과, 기존 컴포넌트가 이미 세고 있는 값(캐시 적중, 해싱 풀, 필터 오탐 등)을 Micrometer 에 연결한다.
+ * 컨트롤러별 요청 시간(http.server.requests), Hikari 풀, Hibernate 통계(2차 캐시 포함)는 Spring Boot 자동 설정이 등록한다.
+ * 값은 스크랩 시점에 읽어 가므로 요청 경로에는 기록 비용이 추가되지 않는다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final Set<String> HISTOGRAM_METERS = Set.of("http.server.requests", "weather.client.requests");
+
+    // 서버 쪽 분위수 계산 대신 고정 버킷 히스토그램만 내보내고, 버킷 범위를 1ms ~ 10s 로 제한해 시계열 수를 줄인다.
+    @Bean
+    public MeterFilter latencyHistogramFilter(@Value("${metrics.histogram.enabled:true}") boolean enabled) {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!enabled || !HISTOGRAM_METERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder jwtClaimsCacheMetrics(JwtClaimsCache jwtClaimsCache) {
+        return registry -> bindCache(registry, "jwt.claims", jwtClaimsCache,
+                JwtClaimsCache::getHitCount, JwtClaimsCache::getMissCount, JwtClaimsCache::getEvictionCount, JwtClaimsCache::size);
+    }
+
+    @Bean
+    public MeterBinder todoResponseCacheMetrics(TodoResponseCache todoResponseCache) {
+        return registry -> bindCache(registry, "todo.response", todoResponseCache,
+                TodoResponseCache::getHitCount, TodoResponseCache::getMissCount, TodoResponseCache::getEvictionCount, TodoResponseCache::size);
+    }
+
+    @Bean
+    public MeterBinder passwordEncoderMetrics(PasswordEncoder passwordEncoder) {
+        return registry -> {
+            FunctionTimer.builder("password.hash", passwordEncoder,
+                            PasswordEncoder::getHashCount, PasswordEncoder::getTotalHashNanos, TimeUnit.NANOSECONDS)
+                    .description("BCrypt 해싱/검증 시간")
+                    .register(registry);
+            FunctionTimer.builder("password.hash.queue.wait", passwordEncoder,
+                            PasswordEncoder::getHashCount, PasswordEncoder::getTotalQueueWaitNanos, TimeUnit.NANOSECONDS)
+                    .description("해싱 전용 스레드 풀 대기 시간")
+                    .register(registry);
+            FunctionCounter.builder("password.hash.rejected", passwordEncoder, PasswordEncoder::getRejectedCount)
+                    .register(registry);
+            Gauge.builder("password.hash.queue.depth", passwordEncoder, PasswordEncoder::getQueueDepth)
+                    .register(registry);
+            Gauge.builder("password.hash.active", passwordEncoder, PasswordEncoder::getActiveCount)
+                    .register(registry);
+            Gauge.builder("password.hash.cost", passwordEncoder, PasswordEncoder::getCost)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder todoMetrics(TodoCounter todoCounter, TodoWeatherEnricher todoWeatherEnricher) {
+        return registry -> {
+            Gauge.builder("todos.count", todoCounter, counter -> {
+                        long count = counter.getCachedCount();
+                        return count < 0 ? Double.NaN : count;
+                    })
+                    .description("메모리에 유지 중인 전체 일정 수")
+                    .register(registry);
+            FunctionCounter.builder("todo.weather.enriched", todoWeatherEnricher, TodoWeatherEnricher::getEnrichedTotal)
+                    .register(registry);
+            FunctionCounter.builder("todo.weather.failed.attempts", todoWeatherEnricher, TodoWeatherEnricher::getFailedAttemptTotal)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder emailFilterMetrics(EmailBloomFilter emailBloomFilter) {
+        return registry -> {
+            FunctionCounter.builder("user.email.filter.lookups", emailBloomFilter, EmailBloomFilter::getNegativeCount)
+                    .tag("result", "negative")
+                    .register(registry);
+            FunctionCounter.builder("user.email.filter.lookups", emailBloomFilter, EmailBloomFilter::getPositiveCount)
+                    .tag("result", "positive")
+                    .register(registry);
+            FunctionCounter.builder("user.email.filter.false.positives", emailBloomFilter, EmailBloomFilter::getFalsePositiveCount)
+                    .register(registry);
+            Gauge.builder("user.email.filter.expected.fpp", emailBloomFilter, EmailBloomFilter::getExpectedFalsePositiveRate)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder adminAuditMetrics(AdminAuditLogger adminAuditLogger) {
+        return registry -> {
+            FunctionCounter.builder("admin.audit.events", adminAuditLogger, AdminAuditLogger::getWrittenCount)
+                    .tag("result", "written")
+                    .register(registry);
+            FunctionCounter.builder("admin.audit.events", adminAuditLogger, AdminAuditLogger::getDroppedCount)
+                    .tag("result", "dropped")
+                    .description("큐가 가득 차 버려진 감사 이벤트")
+                    .register(registry);
+            FunctionCounter.builder("admin.audit.events", adminAuditLogger, AdminAuditLogger::getFailedCount)
+                    .tag("result", "failed")
+                    .register(registry);
+            FunctionCounter.builder("admin.audit.body.truncated", adminAuditLogger, AdminAuditLogger::getTruncatedCount)
+                    .register(registry);
+            Gauge.builder("admin.audit.queue.depth", adminAuditLogger, AdminAuditLogger::getQueueDepth)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder virtualThreadPinningMetrics(ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor) {
+        return registry -> pinningMonitor.ifAvailable(monitor ->
+                FunctionCounter.builder("jvm.threads.virtual.pinned", monitor, VirtualThreadPinningMonitor::getPinnedCount)
+                        .register(registry));
+    }
+
+    private static <T> void bindCache(MeterRegistry registry, String name, T cache,
+                                      ToDoubleFunction<T> hits,
+                                      ToDoubleFunction<T> misses,
+                                      ToDoubleFunction<T> evictions,
+                                      ToDoubleFunction<T> size) {
+        FunctionCounter.builder("cache.gets", cache, hits).tags("cache", name, "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", cache, misses).tags("cache", name, "result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", cache, evictions).tag("cache", name).register(registry);
+        Gauge.builder("cache.size", cache, size).tag("cache", name).register(registry);
+    }
+}
@@ -1,17 +1,176 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱은 CPU 를 많이 쓰므로 Tomcat 요청 스레드가 아닌 전용 스레드 풀에서 실행한다.
+ * 풀 크기는 기본적으로 CPU 코어 수이며, 대기열이 가득 차면 즉시 503 으로 거절한다.
+ */
+@Slf4j(topic = "PasswordEncoder")
 @Component
 public class PasswordEncoder {
 
+    private static final int DEFAULT_QUEUE_CAPACITY = 100;
+    private static final int DEFAULT_COST = BCrypt.MIN_COST;
+
+    private final ThreadPoolExecutor executor;
+    private final int cost;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+
+    public PasswordEncoder() {
+        this(0, DEFAULT_QUEUE_CAPACITY, DEFAULT_COST);
+    }
+
+    @Autowired
+    public PasswordEncoder(
+            @Value("${password.hashing.pool-size:0}") int poolSize,
+            @Value("${password.hashing.queue-capacity:" + DEFAULT_QUEUE_CAPACITY + "}") int queueCapacity,
+            @Value("${password.bcrypt.cost:" + DEFAULT_COST + "}") int cost
+    ) {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("BCrypt cost 는 " + BCrypt.MIN_COST + " ~ " + BCrypt.MAX_COST + " 사이여야 합니다: " + cost);
+        }
+        this.cost = cost;
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return await(encodeAsync(rawPassword));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return await(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(() -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
+    }
+
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    // 저장된 해시의 cost 가 현재 설정과 다르면 다시 해싱해야 한다. ($2a$NN$... 형식)
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return true;
+        }
+        try {
+            int storedCost = Integer.parseInt(encodedPassword.substring(4, 6));
+            return storedCost != cost;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    public long getTotalHashNanos() {
+        return hashNanos.sum();
+    }
+
+    public long getTotalQueueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    return task.get();
+                } finally {
+                    hashNanos.add(System.nanoTime() - startedAt);
+                    hashCount.increment();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("비밀번호 해싱 대기열이 가득 찼습니다. queue={}, active={}", getQueueDepth(), getActiveCount());
+            throw new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리에 실패했습니다.");
+        }
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 }
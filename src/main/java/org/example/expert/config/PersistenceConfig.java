@@ -1,9 +1,78 @@
 package org.example.expert.config;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // 같은 엔티티의 UPDATE 를 모아 JDBC batch 로 전송. IDENTITY id 엔티티의 INSERT 는 batch 되지 않으므로 bulk 등록은 *BulkRepository 가 처리한다.
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+            @Value("${persistence.jdbc.batch-size:100}") int batchSize
+    ) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    // Hibernate 2차 캐시용 로컬 캐시 (JCache + Caffeine).
+    // 애플리케이션 컨텍스트마다 별도 CacheManager 를 만들어 테스트 컨텍스트끼리 다른 DB 의 캐시를 공유하지 않도록 한다.
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${persistence.cache.user.max-size:10000}") long userMaxSize,
+            @Value("${persistence.cache.user.ttl:PT10M}") Duration userTtl
+    ) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:expert:hibernate:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        cacheManager.createCache(User.CACHE_REGION, boundedRegion(userMaxSize, userTtl));
+        // 쿼리 캐시 대상은 UserRepository.findByEmail 뿐이므로 같은 크기/만료를 적용
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, boundedRegion(userMaxSize, userTtl));
+        // 쿼리 캐시 결과의 유효성 판단에 쓰이므로 크기 제한/만료 없이 둔다.
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager hibernateCacheManager,
+            @Value("${persistence.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${persistence.statistics.enabled:true}") boolean statisticsEnabled
+    ) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, cacheEnabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, cacheEnabled);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statisticsEnabled);
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> boundedRegion(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
 }
@@ -0,0 +1,109 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21 이상)에서 JFR 의 jdk.VirtualThreadPinned 이벤트를 구독한다.
+ * synchronized 블록이나 native 호출 안에서 블로킹되어 carrier 스레드가 고정되면 호출 위치별로 횟수를 세고,
+ * 같은 위치는 처음 한 번만 스택과 함께 경고 로그를 남긴다.
+ */
+@Slf4j(topic = "VirtualThreadPinningMonitor")
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "threads.virtual.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 12;
+
+    private final Duration threshold;
+    private final LongAdder pinnedCount = new LongAdder();
+    private final Map<String, LongAdder> pinnedCountBySite = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(@Value("${threads.virtual.pinning-monitor.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 모니터 시작 - threshold {}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    // 호출 위치(애플리케이션 코드에 가장 가까운 프레임)별 pinning 횟수
+    public Map<String, Long> getPinnedCountBySite() {
+        return pinnedCountBySite.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String site = stackTrace == null ? "unknown" : pinnedSite(stackTrace);
+
+        LongAdder counter = new LongAdder();
+        LongAdder existing = pinnedCountBySite.putIfAbsent(site, counter);
+        if (existing != null) {
+            existing.increment();
+            return;
+        }
+        counter.increment();
+        log.warn("가상 스레드 pinning {}ms at {}\n{}", event.getDuration().toMillis(), site, format(stackTrace));
+    }
+
+    private String pinnedSite(RecordedStackTrace stackTrace) {
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith("org.example.expert")) {
+                return frameName(frame);
+            }
+        }
+        return stackTrace.getFrames().isEmpty() ? "unknown" : frameName(stackTrace.getFrames().get(0));
+    }
+
+    private String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(frame -> "\tat " + frameName(frame))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
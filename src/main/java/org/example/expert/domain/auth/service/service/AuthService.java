@@ -12,9 +12,15 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.example.expert.domain.user.service.UserCache;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * BCrypt 해싱/검증은 트랜잭션 밖에서 한다. 해싱 풀 대기 시간 동안 DB 커넥션을 잡고 있지 않도록
+ * 사용자 조회와 저장은 repository 호출 단위의 짧은 트랜잭션으로만 실행한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -22,16 +28,20 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserCache userCache;
+    private final EmailBloomFilter emailBloomFilter;
 
-    @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // 이메일 중복 체크. 필터에 없는 이메일은 확실히 새 이메일이므로 DB 조회를 생략한다.
+        if (emailBloomFilter.mightContain(signupRequest.getEmail())) {
+            if (userRepository.existsByEmail(signupRequest.getEmail())) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            emailBloomFilter.recordFalsePositive();
         }
 
-        // 그 이후, 중복이 아니면 인코딩을 진행한다.
+        // 그 이후, 중복이 아니면 인코딩을 진행한다. (트랜잭션 밖)
         String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
@@ -41,23 +51,44 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // 동시 가입으로 중복 체크를 통과한 경우 unique 제약이 최종 판단
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+        emailBloomFilter.put(savedUser.getEmail());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
         return new SignupResponse(bearerToken);
     }
 
-    @Transactional(readOnly = true)
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
-                () -> new InvalidRequestException("가입되지 않은 유저입니다."));
+        // 필터에 없는 이메일은 가입되지 않은 것이 확실하므로 DB 를 조회하지 않는다.
+        if (!emailBloomFilter.mightContain(signinRequest.getEmail())) {
+            throw new InvalidRequestException("가입되지 않은 유저입니다.");
+        }
+
+        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(() -> {
+            emailBloomFilter.recordFalsePositive();
+            return new InvalidRequestException("가입되지 않은 유저입니다.");
+        });
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
         if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 저장된 해시의 cost 가 현재 설정과 다르면 로그인에 성공한 시점에 새 cost 로 다시 해싱한다.
+        // 해싱은 트랜잭션 밖에서 하고, 저장만 짧은 쓰기 트랜잭션으로 실행한다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            user.changePassword(passwordEncoder.encode(signinRequest.getPassword()));
+            userRepository.save(user);
+            userCache.evict(user.getId());
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
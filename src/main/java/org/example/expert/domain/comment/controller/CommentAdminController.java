@@ -2,18 +2,35 @@ package org.example.expert.domain.comment.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentExportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentAdminController {
 
     private final CommentAdminService commentAdminService;
+    private final CommentExportService commentExportService;
 
     @DeleteMapping("/admin/comments/{commentId}")
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    // 댓글 전체를 NDJSON 으로 스트리밍 (compliance export)
+    @GetMapping("/admin/todos/{todoId}/comments/export")
+    public ResponseEntity<StreamingResponseBody> exportComments(@PathVariable long todoId) {
+        commentExportService.validateTodoExists(todoId);
+
+        StreamingResponseBody body = outputStream -> commentExportService.exportComments(todoId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 }
@@ -2,12 +2,14 @@ package org.example.expert.domain.comment.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,8 +30,27 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
-    @GetMapping("/todos/{todoId}/comments")
+    @PostMapping("/todos/{todoId}/comments/bulk")
+    public ResponseEntity<List<CommentSaveResponse>> saveComments(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody CommentBulkSaveRequest commentBulkSaveRequest
+    ) {
+        return ResponseEntity.ok(commentService.saveComments(authUser, todoId, commentBulkSaveRequest));
+    }
+
+    // cursor, size 가 모두 없으면 기존처럼 목록을 반환 (최대 개수 제한)
+    @GetMapping(value = "/todos/{todoId}/comments", params = {"!cursor", "!size"})
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    @GetMapping("/todos/{todoId}/comments")
+    public ResponseEntity<CursorSliceResponse<CommentResponse>> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
+    }
 }
@@ -0,0 +1,21 @@
+package org.example.expert.domain.comment.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkSaveRequest {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 10000, message = "한 번에 등록할 수 있는 댓글은 10000개 이하입니다.")
+    private List<CommentSaveRequest> comments;
+}
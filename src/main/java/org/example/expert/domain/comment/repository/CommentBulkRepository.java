@@ -0,0 +1,75 @@
+package org.example.expert.domain.comment.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 여러 건을 JDBC batch INSERT 로 저장한다.
+ * Comment 는 IDENTITY id 라 Hibernate 가 INSERT 를 batch 로 묶지 못하므로 bulk 등록만 JdbcTemplate 으로 직접 보낸다.
+ * 호출한 트랜잭션의 커넥션을 그대로 사용한다.
+ */
+@Repository
+public class CommentBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public CommentBulkRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${persistence.jdbc.batch-size:100}") int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("persistence.jdbc.batch-size 는 1 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    // 저장된 댓글의 id 를 contents 순서대로 반환
+    public List<Long> insertAll(long todoId, long userId, List<String> contents) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(contents.size());
+        for (int from = 0; from < contents.size(); from += batchSize) {
+            List<String> chunk = contents.subList(from, Math.min(from + batchSize, contents.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setString(1, chunk.get(i));
+                            ps.setLong(2, userId);
+                            ps.setLong(3, todoId);
+                            ps.setObject(4, now);
+                            ps.setObject(5, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder
+            );
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+        return ids;
+    }
+}
@@ -1,14 +1,57 @@
 package org.example.expert.domain.comment.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // (todo_id, created_at, id) 인덱스를 타도록 todoId 조건 + (createdAt, id) 오름차순으로 조회
+    String COMMENT_RESPONSE_SELECT = "SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(" +
+            "c.id, c.contents, u.id, u.email, c.createdAt) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId ";
+
+    String COMMENT_RESPONSE_ORDER = "ORDER BY c.createdAt ASC, c.id ASC";
+
+    @Query(COMMENT_RESPONSE_SELECT + COMMENT_RESPONSE_ORDER)
+    List<CommentResponse> findCommentResponses(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Query(COMMENT_RESPONSE_SELECT + COMMENT_RESPONSE_ORDER)
+    Slice<CommentResponse> findFirstCommentResponseSlice(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Query(COMMENT_RESPONSE_SELECT +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :commentId)) " +
+            COMMENT_RESPONSE_ORDER)
+    Slice<CommentResponse> findNextCommentResponseSlice(@Param("todoId") Long todoId, @Param("createdAt") LocalDateTime createdAt, @Param("commentId") Long commentId, Pageable pageable);
+
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findTodoIdById(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId")
+    int deleteCommentById(@Param("commentId") Long commentId);
+
+    // 일정 삭제 시 자식 댓글을 엔티티 로딩 없이 한 번에 삭제
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.todo.id IN :todoIds")
+    int deleteByTodoIds(@Param("todoIds") List<Long> todoIds);
+
+    // 전체 내보내기용: 결과를 한 번에 적재하지 않고 forward-only 로 읽는다. 트랜잭션 안에서 사용하고 반드시 close 해야 한다.
+    // MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 단위로 읽는다. 없으면 드라이버가 결과 전체를 메모리에 올린다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(COMMENT_RESPONSE_SELECT + COMMENT_RESPONSE_ORDER)
+    Stream<CommentResponse> streamCommentResponses(@Param("todoId") Long todoId);
 }
@@ -2,6 +2,7 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.service.TodoStatsUpdater;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,9 +11,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoStatsUpdater todoStatsUpdater;
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.findTodoIdById(commentId).ifPresent(todoId -> {
+            // 실제로 삭제한 경우에만 댓글 수 감소 (동시 삭제 시 이중 감소 방지)
+            if (commentRepository.deleteCommentById(commentId) > 0) {
+                todoStatsUpdater.changeCommentCount(todoId, -1);
+            }
+        });
     }
 }
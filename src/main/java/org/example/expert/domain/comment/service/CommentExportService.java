@@ -0,0 +1,68 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 일정의 전체 댓글을 NDJSON(한 줄에 댓글 하나)으로 내보낸다.
+ * 댓글 수와 관계없이 메모리 사용량이 일정하도록 DB 커서에서 읽은 행을 바로 출력 스트림에 쓴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+
+    // 응답 헤더가 나가기 전에 400 을 돌려줄 수 있도록 스트리밍 시작 전에 호출
+    @Transactional(readOnly = true)
+    public void validateTodoExists(long todoId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportComments(long todoId, OutputStream outputStream) {
+        long written = 0;
+        try (Stream<CommentResponse> comments = commentRepository.streamCommentResponses(todoId);
+             SequenceWriter writer = objectMapper.writer()
+                     .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(outputStream)) {
+            Iterator<CommentResponse> iterator = comments.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (++written % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+            if (written > 0) {
+                outputStream.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("댓글 내보내기 중 오류가 발생했습니다.", e);
+        }
+        return written;
+    }
+}
@@ -1,17 +1,25 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentBulkRepository;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoStatsUpdater;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,14 +30,24 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+    // 페이지네이션 없는 기존 조회는 오래된 순으로 최대 이 개수까지만 반환
+    private static final int MAX_UNPAGED_COMMENTS = 1000;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final CommentBulkRepository commentBulkRepository;
+    private final TodoStatsUpdater todoStatsUpdater;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        // 댓글 수 증가 UPDATE 가 일정 존재 확인을 겸한다 (일정 행이 잠기므로 동시 삭제와도 직렬화됨)
+        if (!todoStatsUpdater.changeCommentCount(todoId, 1)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        // FK 만 필요하므로 SELECT 없이 프록시 사용
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -46,20 +64,56 @@ public class CommentService {
         );
     }
 
+    // 여러 댓글을 한 트랜잭션에서 저장 (JDBC batch INSERT)
+    @Transactional
+    public List<CommentSaveResponse> saveComments(AuthUser authUser, long todoId, CommentBulkSaveRequest commentBulkSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        if (!todoStatsUpdater.changeCommentCount(todoId, commentBulkSaveRequest.getComments().size())) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        List<String> contents = commentBulkSaveRequest.getComments().stream()
+                .map(CommentSaveRequest::getContents)
+                .toList();
+        List<Long> commentIds = commentBulkRepository.insertAll(todoId, user.getId(), contents);
+
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        List<CommentSaveResponse> responses = new ArrayList<>(commentIds.size());
+        for (int i = 0; i < commentIds.size(); i++) {
+            responses.add(new CommentSaveResponse(commentIds.get(i), contents.get(i), userResponse));
+        }
+        return responses;
+    }
+
     @Transactional(readOnly = true)
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+        return commentRepository.findCommentResponses(todoId, PageRequest.of(0, MAX_UNPAGED_COMMENTS));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<CommentResponse> getCommentsByCursor(long todoId, String cursor, int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new InvalidRequestException(String.format("size 는 1 이상 %d 이하여야 합니다.", MAX_SLICE_SIZE));
         }
-        return dtoList;
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<CommentResponse> comments = keysetCursor == null
+                ? commentRepository.findFirstCommentResponseSlice(todoId, pageable)
+                : commentRepository.findNextCommentResponseSlice(todoId, keysetCursor.timestamp(), keysetCursor.id(), pageable);
+
+        String nextCursor = null;
+        if (comments.hasNext()) {
+            CommentResponse last = comments.getContent().get(comments.getNumberOfElements() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorSliceResponse<>(
+                comments.getContent(),
+                comments.getNumberOfElements(),
+                comments.hasNext(),
+                nextCursor
+        );
     }
 }
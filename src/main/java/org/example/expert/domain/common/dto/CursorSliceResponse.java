@@ -0,0 +1,21 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorSliceResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorSliceResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
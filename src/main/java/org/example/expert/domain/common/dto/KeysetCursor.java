@@ -0,0 +1,41 @@
+package org.example.expert.domain.common.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (정렬 시각, id) 쌍으로 이루어진 keyset 페이지네이션 커서.
+ * 클라이언트에는 내부 구조를 노출하지 않도록 Base64url 문자열로 주고받는다.
+ */
+public record KeysetCursor(LocalDateTime timestamp, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지를 의미하므로 null 반환
+    public static KeysetCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -31,6 +32,15 @@ public class ManagerController {
         return ResponseEntity.ok(managerService.saveManager(authUser, todoId, managerSaveRequest));
     }
 
+    @PostMapping("/todos/{todoId}/managers/bulk")
+    public ResponseEntity<List<ManagerSaveResponse>> saveManagers(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody ManagerBulkSaveRequest managerBulkSaveRequest
+    ) {
+        return ResponseEntity.ok(managerService.saveManagers(authUser, todoId, managerBulkSaveRequest));
+    }
+
     @GetMapping("/todos/{todoId}/managers")
     public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
         return ResponseEntity.ok(managerService.getManagers(todoId));
@@ -0,0 +1,20 @@
+package org.example.expert.domain.manager.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerBulkSaveRequest {
+
+    @NotEmpty
+    @Size(max = 1000, message = "한 번에 등록할 수 있는 담당자는 1000명 이하입니다.")
+    private List<@NotNull Long> managerUserIds; // 담당자로 배치할 유저 id 목록
+}
@@ -0,0 +1,67 @@
+package org.example.expert.domain.manager.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 담당자 여러 명을 JDBC batch INSERT 로 등록한다. (IDENTITY id 라 Hibernate batch 가 적용되지 않음)
+ */
+@Repository
+public class ManagerBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public ManagerBulkRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${persistence.jdbc.batch-size:100}") int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("persistence.jdbc.batch-size 는 1 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    // 저장된 담당자의 id 를 managerUserIds 순서대로 반환
+    public List<Long> insertAll(long todoId, List<Long> managerUserIds) {
+        List<Long> ids = new ArrayList<>(managerUserIds.size());
+        for (int from = 0; from < managerUserIds.size(); from += batchSize) {
+            List<Long> chunk = managerUserIds.subList(from, Math.min(from + batchSize, managerUserIds.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setLong(1, chunk.get(i));
+                            ps.setLong(2, todoId);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder
+            );
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+        return ids;
+    }
+}
@@ -2,12 +2,27 @@ package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 담당자가 해당 일정에 속하고 요청자가 일정 소유자일 때만 삭제
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId AND m.todo.id = :todoId " +
+            "AND EXISTS (SELECT 1 FROM Todo t WHERE t.id = :todoId AND t.user.id = :ownerId)")
+    int deleteByIdIfTodoOwnedBy(@Param("managerId") Long managerId, @Param("todoId") Long todoId, @Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.todo.id IN :todoIds")
+    int deleteByTodoIds(@Param("todoIds") List<Long> todoIds);
+
+    @Query("SELECT m.todo.id FROM Manager m WHERE m.id = :managerId")
+    Optional<Long> findTodoIdById(@Param("managerId") Long managerId);
 }
@@ -3,13 +3,16 @@ package org.example.expert.domain.manager.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerBulkRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoStatsUpdater;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -19,22 +22,29 @@ import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ManagerService {
 
     private final ManagerRepository managerRepository;
+    private final ManagerBulkRepository managerBulkRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final TodoStatsUpdater todoStatsUpdater;
 
-    // 헬퍼 메서드: 일정 소유자 검증
-    private void validateTodoHelper(User user, Todo todo) {
-        if (todo.getUser() == null) {
-            throw new InvalidRequestException("일정 소유자 정보가 없습니다.");
-        }
-        if (!Objects.equals(user.getId(), todo.getUser().getId())) {
+    // 헬퍼 메서드: 일정 소유자 검증 (user_id 컬럼만 조회)
+    private void validateTodoOwner(long todoId, Long userId) {
+        Long ownerId = todoRepository.findOwnerIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException(
+                        String.format("Todo(ID: %d)가 존재하지 않습니다.", todoId)
+                ));
+
+        if (!Objects.equals(userId, ownerId)) {
             throw new InvalidRequestException("일정 소유자만 접근할 수 있습니다.");
         }
     }
@@ -43,23 +53,26 @@ public class ManagerService {
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException(
-                        String.format("Todo(ID: %d)가 존재하지 않습니다.", todoId)
-                ));
+        Long managerUserId = managerSaveRequest.getManagerUserId();
 
-        validateTodoHelper(user, todo);
-
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
-                .orElseThrow(() -> new InvalidRequestException(
-                        String.format("등록하려고 하는 담당자 유저(ID: %d)가 존재하지 않습니다.", managerSaveRequest.getManagerUserId())
-                ));
+        // 정상 경로는 쿼리 한 번으로 소유자 확인 + 담당자 조회, 실패했을 때만 원인을 따로 확인
+        User managerUser = userRepository.findByIdIfTodoOwnedBy(managerUserId, todoId, user.getId())
+                .orElseGet(() -> {
+                    validateTodoOwner(todoId, user.getId());
+                    throw new InvalidRequestException(
+                            String.format("등록하려고 하는 담당자 유저(ID: %d)가 존재하지 않습니다.", managerUserId)
+                    );
+                });
 
         if (Objects.equals(user.getId(), managerUser.getId())) {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
+        // 담당자 수 증가 UPDATE 로 일정 행을 먼저 잠가 동시 삭제와 직렬화한다 (삭제된 일정이면 INSERT 전에 거절)
+        if (!todoStatsUpdater.changeManagerCount(todoId, 1)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        Manager newManagerUser = new Manager(managerUser, todoRepository.getReferenceById(todoId));
         Manager savedManagerUser = managerRepository.save(newManagerUser);
 
         return new ManagerSaveResponse(
@@ -68,6 +81,47 @@ public class ManagerService {
         );
     }
 
+    @Transactional
+    public List<ManagerSaveResponse> saveManagers(AuthUser authUser, long todoId, ManagerBulkSaveRequest managerBulkSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        validateTodoOwner(todoId, user.getId());
+
+        List<Long> managerUserIds = managerBulkSaveRequest.getManagerUserIds().stream()
+                .distinct()
+                .toList();
+
+        if (managerUserIds.contains(user.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        // 담당자 유저를 IN 쿼리 한 번으로 조회
+        Map<Long, User> managerUsers = userRepository.findAllById(managerUserIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        for (Long managerUserId : managerUserIds) {
+            if (!managerUsers.containsKey(managerUserId)) {
+                throw new InvalidRequestException(
+                        String.format("등록하려고 하는 담당자 유저(ID: %d)가 존재하지 않습니다.", managerUserId)
+                );
+            }
+        }
+
+        if (!todoStatsUpdater.changeManagerCount(todoId, managerUserIds.size())) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        List<Long> managerIds = managerBulkRepository.insertAll(todoId, managerUserIds);
+
+        List<ManagerSaveResponse> responses = new ArrayList<>(managerIds.size());
+        for (int i = 0; i < managerIds.size(); i++) {
+            User managerUser = managerUsers.get(managerUserIds.get(i));
+            responses.add(new ManagerSaveResponse(
+                    managerIds.get(i),
+                    new UserResponse(managerUser.getId(), managerUser.getEmail())
+            ));
+        }
+        return responses;
+    }
+
     @Transactional(readOnly = true)
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
@@ -92,22 +146,22 @@ public class ManagerService {
     @Transactional
     public void deleteManager(AuthUser authUser, long todoId, long managerId) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException(
-                        String.format("Todo(ID: %d)가 존재하지 않습니다.", todoId)
-                ));
 
-        validateTodoHelper(user, todo);
+        // 조건부 DELETE 한 번으로 처리하고, 삭제된 행이 없을 때만 원인을 확인
+        if (managerRepository.deleteByIdIfTodoOwnedBy(managerId, todoId, user.getId()) > 0) {
+            todoStatsUpdater.changeManagerCount(todoId, -1);
+            return;
+        }
+
+        validateTodoOwner(todoId, user.getId());
 
-        Manager manager = managerRepository.findById(managerId)
+        Long managerTodoId = managerRepository.findTodoIdById(managerId)
                 .orElseThrow(() -> new InvalidRequestException(
                         String.format("Manager(ID: %d)가 존재하지 않습니다.", managerId)
                 ));
 
-        if (!Objects.equals(todo.getId(), manager.getTodo().getId())) {
+        if (!Objects.equals(todoId, managerTodoId)) {
             throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
         }
-
-        managerRepository.delete(manager);
     }
 }
@@ -0,0 +1,46 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoBulkDeleteRequest;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.dto.response.WeatherEnrichmentStatusResponse;
+import org.example.expert.domain.todo.service.TodoDeleteService;
+import org.example.expert.domain.todo.service.TodoStatsUpdater;
+import org.example.expert.domain.todo.service.TodoWeatherEnricher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final TodoStatsUpdater todoStatsUpdater;
+    private final TodoDeleteService todoDeleteService;
+
+    @GetMapping("/admin/todos/weather-enrichment")
+    public ResponseEntity<WeatherEnrichmentStatusResponse> getWeatherEnrichmentStatus() {
+        return ResponseEntity.ok(todoWeatherEnricher.getStatus());
+    }
+
+    @PostMapping("/admin/todos/weather-enrichment/retry")
+    public ResponseEntity<WeatherEnrichmentStatusResponse> retryWeatherEnrichment() {
+        todoWeatherEnricher.retryFailed();
+        return ResponseEntity.ok(todoWeatherEnricher.getStatus());
+    }
+
+    // 댓글/담당자 수 집계 컬럼을 실제 행 수로 다시 맞춤 (컬럼 추가 직후 backfill 용)
+    @PostMapping("/admin/todos/counts/recalculate")
+    public ResponseEntity<Integer> recalculateCounts() {
+        return ResponseEntity.ok(todoStatsUpdater.recalculateAll());
+    }
+
+    @PostMapping("/admin/todos/bulk-delete")
+    public ResponseEntity<TodoDeleteResponse> deleteTodos(@Valid @RequestBody TodoBulkDeleteRequest todoBulkDeleteRequest) {
+        return ResponseEntity.ok(todoDeleteService.deleteTodos(todoBulkDeleteRequest.getTodoIds()));
+    }
+}
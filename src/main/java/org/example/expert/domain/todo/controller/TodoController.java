@@ -4,9 +4,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.enums.TodoCountMode;
+import org.example.expert.domain.todo.service.TodoDeleteService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoDeleteService todoDeleteService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -34,8 +39,34 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    // count 파라미터가 있으면 전체 개수 계산 방식을 선택할 수 있는 응답을 반환 (exact, cached, none)
+    @GetMapping(value = "/todos", params = "count")
+    public ResponseEntity<TodoPageResponse> getTodos(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam String count
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, TodoCountMode.of(count)));
+    }
+
+    @GetMapping("/todos/scroll")
+    public ResponseEntity<CursorSliceResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId
+    ) {
+        todoDeleteService.deleteTodo(authUser, todoId);
+    }
 }
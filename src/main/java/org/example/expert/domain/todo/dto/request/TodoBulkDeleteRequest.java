@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkDeleteRequest {
+
+    @NotEmpty
+    @Size(max = 100000, message = "한 번에 삭제할 수 있는 일정은 100000개 이하입니다.")
+    private List<@NotNull Long> todoIds;
+}
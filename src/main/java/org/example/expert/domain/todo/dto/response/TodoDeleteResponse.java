@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoDeleteResponse {
+
+    private final int requestedCount;
+    private final int chunkCount;
+    private final long deletedTodoCount;
+    private final long deletedCommentCount;
+    private final long deletedManagerCount;
+
+    public TodoDeleteResponse(int requestedCount, int chunkCount, long deletedTodoCount, long deletedCommentCount, long deletedManagerCount) {
+        this.requestedCount = requestedCount;
+        this.chunkCount = chunkCount;
+        this.deletedTodoCount = deletedTodoCount;
+        this.deletedCommentCount = deletedCommentCount;
+        this.deletedManagerCount = deletedManagerCount;
+    }
+}
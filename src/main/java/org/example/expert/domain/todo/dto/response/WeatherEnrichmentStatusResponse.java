@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class WeatherEnrichmentStatusResponse {
+
+    private final long pendingCount;
+    private final long failedCount;
+    private final LocalDateTime oldestPendingCreatedAt;
+    private final long lagSeconds;
+    private final long enrichedTotal;
+    private final long failedAttemptTotal;
+    private final LocalDateTime lastRunAt;
+
+    public WeatherEnrichmentStatusResponse(long pendingCount, long failedCount, LocalDateTime oldestPendingCreatedAt, long lagSeconds, long enrichedTotal, long failedAttemptTotal, LocalDateTime lastRunAt) {
+        this.pendingCount = pendingCount;
+        this.failedCount = failedCount;
+        this.oldestPendingCreatedAt = oldestPendingCreatedAt;
+        this.lagSeconds = lagSeconds;
+        this.enrichedTotal = enrichedTotal;
+        this.failedAttemptTotal = failedAttemptTotal;
+        this.lastRunAt = lastRunAt;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.entity.User;
 
 import java.util.ArrayList;
@@ -14,7 +15,10 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at DESC, id DESC"),
+        @Index(name = "idx_todos_weather_status_id", columnList = "weather_status, id")
+})
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,12 +26,23 @@ public class Todo extends Timestamped {
     private String title;
     private String contents;
     private String weather;
+    @Enumerated(EnumType.STRING)
+    private WeatherStatus weatherStatus;
+    private int weatherAttempts;
+
+    // 목록 조회에서 컬렉션을 읽지 않도록 유지하는 집계 컬럼. TodoRepository 의 JPQL UPDATE 로만 변경하고,
+    // 엔티티 UPDATE 가 오래된 값으로 덮어쓰지 않도록 updatable = false
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+    @Column(nullable = false, updatable = false)
+    private int managerCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 삭제는 TodoDeleteService 의 set-based DELETE 로 처리 (cascade REMOVE 는 댓글을 모두 로딩해 한 건씩 삭제함)
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
@@ -37,10 +52,21 @@ public class Todo extends Timestamped {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherStatus = WeatherStatus.RESOLVED;
         this.user = user;
+        // 작성자가 담당자로 함께 저장된다.
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;
+    }
+
+    // 날씨는 비동기로 채워지므로 PENDING 상태로 먼저 저장
+    public static Todo withPendingWeather(String title, String contents, User user) {
+        Todo todo = new Todo(title, contents, null, user);
+        todo.weatherStatus = WeatherStatus.PENDING;
+        return todo;
     }
 
+    // 호출하는 서비스에서 TodoResponseCache 를 무효화해야 한다.
     public void update(String title, String contents) {
         this.title = title;
         this.contents = contents;
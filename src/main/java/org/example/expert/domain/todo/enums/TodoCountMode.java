@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+public enum TodoCountMode {
+    EXACT, CACHED, NONE;
+
+    public static TodoCountMode of(String mode) {
+        return Arrays.stream(TodoCountMode.values())
+                .filter(m -> m.name().equalsIgnoreCase(mode))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 count 옵션입니다. (exact, cached, none)"));
+    }
+}
@@ -1,23 +1,104 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.LockModeType;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    // @EntityGraph를 사용하여 N+1 문제 해결하기
-    @EntityGraph(attributePaths = "user")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 엔티티 대신 TodoResponse 에 필요한 컬럼만 조회 (영속성 컨텍스트/dirty checking 대상이 아님)
+    String TODO_RESPONSE_SELECT = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.commentCount, t.managerCount, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @EntityGraph(attributePaths = "user")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    @Query(value = TODO_RESPONSE_SELECT + "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findTodoResponses(Pageable pageable);
+
+    // Slice 반환 타입은 count 쿼리를 실행하지 않는다.
+    @Query(TODO_RESPONSE_SELECT + "ORDER BY t.modifiedAt DESC")
+    Slice<TodoResponse> findTodoResponseSlice(Pageable pageable);
+
+    // keyset 페이지네이션: (modifiedAt, id) 내림차순, count 쿼리 없이 Slice 로 조회
+    @Query(TODO_RESPONSE_SELECT + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findFirstTodoResponseSlice(Pageable pageable);
+
+    @Query(TODO_RESPONSE_SELECT +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :todoId) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findNextTodoResponseSlice(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("todoId") Long todoId, Pageable pageable);
+
+    @Query(TODO_RESPONSE_SELECT + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findTodoResponseById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    // 소유자 확인용: todos PK 로 user_id 컬럼만 조회
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+    // 댓글/담당자 수: 행 단위 원자적 증감 (대상 일정이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int changeCommentCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int changeManagerCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    // 집계 컬럼이 어긋났을 때 실제 행 수로 다시 계산
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id)")
+    int recalculateChildCounts();
+
+    // 삭제 전 일정 행을 id 순서로 잠가, 자식 행 삭제와 동시에 들어오는 댓글/담당자 추가를 막는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Todo t WHERE t.id IN :todoIds ORDER BY t.id")
+    List<Long> lockByIds(@Param("todoIds") List<Long> todoIds);
+
+    // 자식 행(댓글/담당자)을 먼저 지운 뒤 호출해야 한다.
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id IN :todoIds")
+    int deleteByIds(@Param("todoIds") List<Long> todoIds);
+
+    // 날씨 비동기 보강
+    List<Todo> findByWeatherStatusOrderByIdAsc(WeatherStatus weatherStatus, Pageable pageable);
+
+    Optional<Todo> findFirstByWeatherStatusOrderByIdAsc(WeatherStatus weatherStatus);
+
+    long countByWeatherStatus(WeatherStatus weatherStatus);
+
+    // 조회 이후 다른 곳에서 상태가 바뀐 일정은 건드리지 않도록 현재 상태(from)를 조건에 포함한다.
+    @Modifying
+    @Query("UPDATE Todo t SET t.weather = :weather, t.weatherStatus = :to WHERE t.id IN :todoIds AND t.weatherStatus = :from")
+    int updateWeather(@Param("todoIds") List<Long> todoIds, @Param("weather") String weather,
+                      @Param("from") WeatherStatus from, @Param("to") WeatherStatus to);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.weatherAttempts = t.weatherAttempts + 1 WHERE t.id IN :todoIds AND t.weatherStatus = :status")
+    int increaseWeatherAttempts(@Param("todoIds") List<Long> todoIds, @Param("status") WeatherStatus status);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.weatherStatus = :to WHERE t.id IN :todoIds AND t.weatherStatus = :from AND t.weatherAttempts >= :maxAttempts")
+    int updateWeatherStatusIfAttemptsExceeded(@Param("todoIds") List<Long> todoIds, @Param("maxAttempts") int maxAttempts,
+                                              @Param("from") WeatherStatus from, @Param("to") WeatherStatus to);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.weatherStatus = :to, t.weatherAttempts = 0 WHERE t.weatherStatus = :from")
+    int resetWeatherStatus(@Param("from") WeatherStatus from, @Param("to") WeatherStatus to);
 }
@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정 목록 조회 때마다 COUNT(*) 를 실행하지 않도록 전체 일정 수를 메모리에 유지한다.
+ * 등록/삭제 시 커밋 이후에 증감하고, 누락된 변경을 보정하기 위해 주기적으로 DB 값과 다시 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoCounter {
+
+    private static final long UNKNOWN = -1L;
+
+    private final TodoRepository todoRepository;
+    private final AtomicLong count = new AtomicLong(UNKNOWN);
+
+    public long get() {
+        long current = count.get();
+        if (current == UNKNOWN) {
+            return resync();
+        }
+        return current;
+    }
+
+    // 메트릭 수집용. DB 를 조회하지 않으며 아직 맞추기 전이면 -1
+    public long getCachedCount() {
+        return count.get();
+    }
+
+    public void increase(long delta) {
+        afterCommit(() -> count.getAndUpdate(current -> current == UNKNOWN ? UNKNOWN : Math.max(0, current + delta)));
+    }
+
+    public void decrease(long delta) {
+        increase(-delta);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.count.resync-interval:PT10M}")
+    public void scheduledResync() {
+        resync();
+    }
+
+    // DB 의 실제 일정 수로 맞추고 그 값을 반환
+    public long resync() {
+        long exact = todoRepository.count();
+        count.set(exact);
+        return exact;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
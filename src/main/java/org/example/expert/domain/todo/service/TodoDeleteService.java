@@ -0,0 +1,106 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 일정과 자식 행(댓글, 담당자)을 엔티티 로딩 없이 DELETE ... WHERE todo_id IN (...) 으로 삭제한다.
+ * 관리자 일괄 삭제는 일정 id 를 chunk 단위로 나누어 chunk 마다 한 트랜잭션(잠금 SELECT 1회, DELETE 3회)으로 처리하고 진행 상황을 로그로 남긴다.
+ * 자식 행을 지우기 전에 chunk 의 일정 행을 먼저 잠가, 삭제 도중 추가된 댓글/담당자가 FK 위반이나 고아 행으로 남지 않게 한다.
+ */
+@Slf4j(topic = "TodoDeleteService")
+@Service
+public class TodoDeleteService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoCounter todoCounter;
+    private final TodoResponseCache todoResponseCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public TodoDeleteService(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            TodoCounter todoCounter,
+            TodoResponseCache todoResponseCache,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.delete.chunk-size:500}") int chunkSize
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("todo.delete.chunk-size 는 0보다 커야 합니다: " + chunkSize);
+        }
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.todoCounter = todoCounter;
+        this.todoResponseCache = todoResponseCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Long ownerId = todoRepository.findOwnerIdById(todoId)
+                    .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+            if (!Objects.equals(authUser.getId(), ownerId)) {
+                throw new InvalidRequestException("일정 소유자만 삭제할 수 있습니다.");
+            }
+
+            deleteChunk(List.of(todoId));
+        });
+    }
+
+    public TodoDeleteResponse deleteTodos(List<Long> todoIds) {
+        List<Long> distinctIds = todoIds.stream().distinct().toList();
+        int chunkCount = (distinctIds.size() + chunkSize - 1) / chunkSize;
+
+        long deletedTodos = 0;
+        long deletedComments = 0;
+        long deletedManagers = 0;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            List<Long> chunkIds = distinctIds.subList(chunk * chunkSize, Math.min(distinctIds.size(), (chunk + 1) * chunkSize));
+            int[] deleted = transactionTemplate.execute(status -> deleteChunk(chunkIds));
+
+            deletedTodos += deleted[0];
+            deletedComments += deleted[1];
+            deletedManagers += deleted[2];
+            log.info("일정 일괄 삭제 진행 {}/{} chunk - 일정 {}, 댓글 {}, 담당자 {}",
+                    chunk + 1, chunkCount, deletedTodos, deletedComments, deletedManagers);
+        }
+
+        return new TodoDeleteResponse(distinctIds.size(), chunkCount, deletedTodos, deletedComments, deletedManagers);
+    }
+
+    // 반환값: {삭제한 일정 수, 댓글 수, 담당자 수}
+    private int[] deleteChunk(List<Long> todoIds) {
+        // 댓글/담당자 추가도 같은 일정 행의 집계 컬럼을 UPDATE 하므로, 잠금 이후에는 이 chunk 에 새 자식 행이 생기지 않는다.
+        List<Long> lockedIds = todoRepository.lockByIds(todoIds);
+        if (lockedIds.isEmpty()) {
+            return new int[]{0, 0, 0};
+        }
+
+        int comments = commentRepository.deleteByTodoIds(lockedIds);
+        int managers = managerRepository.deleteByTodoIds(lockedIds);
+        int todos = todoRepository.deleteByIds(lockedIds);
+
+        // 벌크 DELETE 이므로 전체 일정 수와 단건 조회 캐시에 직접 반영
+        todoCounter.decrease(todos);
+        todoResponseCache.evictAll(lockedIds);
+        return new int[]{todos, comments, managers};
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 단건 일정 조회(GET /todos/{todoId}) 결과를 todoId 기준으로 보관하는 read-through 캐시.
+ * 일정을 변경하는 서비스(날씨 보강, 집계 컬럼 갱신, 삭제)가 직접 무효화하며, 무효화는 즉시 한 번, 커밋 이후에 한 번 더 수행한다.
+ * 응답의 작성자 이메일은 변경 API 가 없어 바뀌지 않으므로 유저 단위 무효화는 두지 않는다.
+ */
+@Component
+public class TodoResponseCache {
+
+    private final int maxSize;
+    private final Cache<Long, TodoResponse> entries;
+
+    // 조회 중에 무효화가 일어나면 조회 결과를 캐시에 넣지 않도록 세대 번호를 비교
+    private final AtomicLong generation = new AtomicLong();
+
+    public TodoResponseCache(
+            @Value("${todo.cache.max-size:10000}") int maxSize,
+            @Value("${todo.cache.ttl:PT5M}") Duration ttl
+    ) {
+        this.maxSize = maxSize;
+        // 단건 조회마다 거치므로 전역 락 없이 동작하는 Caffeine 에 크기 제한과 만료를 맡긴다.
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .expireAfterWrite(ttl)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    public TodoResponse getOrLoad(Long todoId, Function<Long, TodoResponse> loader) {
+        if (maxSize <= 0) {
+            return loader.apply(todoId);
+        }
+
+        TodoResponse cached = entries.getIfPresent(todoId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        TodoResponse response = loader.apply(todoId);
+        if (generation.get() == loadGeneration) {
+            entries.put(todoId, response);
+        }
+        return response;
+    }
+
+    public void evict(Long todoId) {
+        evictNowAndAfterCommit(() -> entries.invalidate(todoId));
+    }
+
+    public void evictAll(Collection<Long> todoIds) {
+        evictNowAndAfterCommit(() -> entries.invalidateAll(todoIds));
+    }
+
+    public void clear() {
+        evictNowAndAfterCommit(entries::invalidateAll);
+    }
+
+    public int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+
+    public long getHitCount() {
+        return entries.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return entries.stats().missCount();
+    }
+
+    // 크기 제한과 만료로 제거된 항목 수
+    public long getEvictionCount() {
+        return entries.stats().evictionCount();
+    }
+
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        generation.incrementAndGet();
+        eviction.run();
+
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시에 넣었을 수 있으므로 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -3,17 +3,23 @@ package org.example.expert.domain.todo.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoCountMode;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,28 +28,44 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoCounter todoCounter;
+    private final TodoResponseCache todoResponseCache;
+
+    // true 이면 날씨 없이 먼저 저장하고 TodoWeatherEnricher 가 나중에 채운다.
+    @Value("${todo.weather.async-enrichment:false}")
+    private boolean asyncWeatherEnrichment;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
-
-        Todo newTodo = new Todo(
-                todoSaveRequest.getTitle(),
-                todoSaveRequest.getContents(),
-                weather,
-                user
-        );
+        Todo newTodo;
+        if (asyncWeatherEnrichment) {
+            newTodo = Todo.withPendingWeather(
+                    todoSaveRequest.getTitle(),
+                    todoSaveRequest.getContents(),
+                    user
+            );
+        } else {
+            newTodo = new Todo(
+                    todoSaveRequest.getTitle(),
+                    todoSaveRequest.getContents(),
+                    weatherClient.getTodayWeather(),
+                    user
+            );
+        }
         Todo savedTodo = todoRepository.save(newTodo);
+        todoCounter.increase(1);
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
                 savedTodo.getContents(),
-                weather,
+                savedTodo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail())
         );
     }
@@ -51,33 +73,67 @@ public class TodoService {
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todoRepository.findTodoResponses(pageable);
     }
 
-    public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        User user = todo.getUser();
-
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
+    // EXACT: 기존과 같이 count 쿼리 실행, CACHED: 메모리에 유지 중인 근사값 사용, NONE: 전체 개수 생략
+    public TodoPageResponse getTodos(int page, int size, TodoCountMode countMode) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        if (countMode == TodoCountMode.EXACT) {
+            Page<TodoResponse> todos = todoRepository.findTodoResponses(pageable);
+            return new TodoPageResponse(
+                    todos.getContent(),
+                    page,
+                    todos.getNumberOfElements(),
+                    todos.hasNext(),
+                    todos.getTotalElements(),
+                    true
+            );
+        }
+
+        Slice<TodoResponse> todos = todoRepository.findTodoResponseSlice(pageable);
+        Long totalElements = countMode == TodoCountMode.CACHED ? todoCounter.get() : null;
+
+        return new TodoPageResponse(
+                todos.getContent(),
+                page,
+                todos.getNumberOfElements(),
+                todos.hasNext(),
+                totalElements,
+                false
         );
     }
+
+    // 커서 기반 조회: 페이지 깊이와 관계없이 인덱스 범위 탐색 한 번으로 다음 페이지를 가져온다.
+    public CursorSliceResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new InvalidRequestException(String.format("size 는 1 이상 %d 이하여야 합니다.", MAX_SLICE_SIZE));
+        }
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<TodoResponse> todos = keysetCursor == null
+                ? todoRepository.findFirstTodoResponseSlice(pageable)
+                : todoRepository.findNextTodoResponseSlice(keysetCursor.timestamp(), keysetCursor.id(), pageable);
+
+        String nextCursor = null;
+        if (todos.hasNext()) {
+            TodoResponse last = todos.getContent().get(todos.getNumberOfElements() - 1);
+            nextCursor = new KeysetCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new CursorSliceResponse<>(
+                todos.getContent(),
+                todos.getNumberOfElements(),
+                todos.hasNext(),
+                nextCursor
+        );
+    }
+
+    public TodoResponse getTodo(long todoId) {
+        return todoResponseCache.getOrLoad(todoId, id -> todoRepository.findTodoResponseById(id)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found")));
+    }
 }
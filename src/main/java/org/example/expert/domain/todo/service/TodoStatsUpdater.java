@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 일정의 댓글/담당자 수 집계 컬럼을 변경한다.
+ * 일정을 변경한 쪽이 단건 조회 캐시를 무효화하므로 집계 컬럼을 바꿀 때 여기서 함께 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoStatsUpdater {
+
+    private final TodoRepository todoRepository;
+    private final TodoResponseCache todoResponseCache;
+
+    // 대상 일정이 없으면 false
+    public boolean changeCommentCount(long todoId, int delta) {
+        return evictIfUpdated(todoId, todoRepository.changeCommentCount(todoId, delta));
+    }
+
+    public boolean changeManagerCount(long todoId, int delta) {
+        return evictIfUpdated(todoId, todoRepository.changeManagerCount(todoId, delta));
+    }
+
+    @Transactional
+    public int recalculateAll() {
+        int updated = todoRepository.recalculateChildCounts();
+        todoResponseCache.clear();
+        return updated;
+    }
+
+    private boolean evictIfUpdated(long todoId, int updated) {
+        if (updated == 0) {
+            return false;
+        }
+        todoResponseCache.evict(todoId);
+        return true;
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.dto.response.WeatherEnrichmentStatusResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PENDING 상태로 저장된 일정의 날씨를 백그라운드에서 배치 단위로 채운다.
+ * 일정 생성일 기준으로 날씨를 조회하고, 같은 날짜끼리 묶어 한 번의 UPDATE 로 반영한다.
+ * 날씨 조회는 원격 호출이 될 수 있으므로 트랜잭션 밖에서 끝내고, DB 커넥션은 UPDATE 를 반영하는 짧은 트랜잭션에서만 잡는다.
+ * 조회에 실패하면 시도 횟수를 늘리고, 최대 시도 횟수를 넘으면 FAILED 로 바꿔 재시도 요청을 기다린다.
+ */
+@Slf4j(topic = "TodoWeatherEnricher")
+@Component
+public class TodoWeatherEnricher {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TodoResponseCache todoResponseCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final LongAdder enrichedTotal = new LongAdder();
+    private final LongAdder failedAttemptTotal = new LongAdder();
+    private final AtomicReference<LocalDateTime> lastRunAt = new AtomicReference<>();
+
+    public TodoWeatherEnricher(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            TodoResponseCache todoResponseCache,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.weather.enrichment.batch-size:100}") int batchSize,
+            @Value("${todo.weather.enrichment.max-attempts:5}") int maxAttempts
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.todoResponseCache = todoResponseCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.weather.enrichment.interval:PT5S}")
+    public void enrichPendingTodos() {
+        lastRunAt.set(LocalDateTime.now());
+
+        BatchResult result;
+        do {
+            result = enrichNextBatch();
+        } while (result.fetched() == batchSize && result.failed() == 0);
+    }
+
+    public long getEnrichedTotal() {
+        return enrichedTotal.sum();
+    }
+
+    public long getFailedAttemptTotal() {
+        return failedAttemptTotal.sum();
+    }
+
+    public WeatherEnrichmentStatusResponse getStatus() {
+        LocalDateTime oldestPendingCreatedAt = todoRepository.findFirstByWeatherStatusOrderByIdAsc(WeatherStatus.PENDING)
+                .map(Todo::getCreatedAt)
+                .orElse(null);
+        long lagSeconds = oldestPendingCreatedAt == null
+                ? 0
+                : Duration.between(oldestPendingCreatedAt, LocalDateTime.now()).toSeconds();
+
+        return new WeatherEnrichmentStatusResponse(
+                todoRepository.countByWeatherStatus(WeatherStatus.PENDING),
+                todoRepository.countByWeatherStatus(WeatherStatus.FAILED),
+                oldestPendingCreatedAt,
+                lagSeconds,
+                enrichedTotal.sum(),
+                failedAttemptTotal.sum(),
+                lastRunAt.get()
+        );
+    }
+
+    // FAILED 로 끝난 일정을 다시 PENDING 으로 돌려 다음 주기에 재시도
+    public int retryFailed() {
+        Integer updated = transactionTemplate.execute(status ->
+                todoRepository.resetWeatherStatus(WeatherStatus.FAILED, WeatherStatus.PENDING));
+        return updated == null ? 0 : updated;
+    }
+
+    // 배치 하나를 처리한다. 실패한 일정이 있으면 이번 주기에는 더 진행하지 않도록 호출 측에서 반복을 멈춘다.
+    BatchResult enrichNextBatch() {
+        List<Todo> pendingTodos = todoRepository.findByWeatherStatusOrderByIdAsc(
+                WeatherStatus.PENDING, PageRequest.of(0, batchSize));
+        if (pendingTodos.isEmpty()) {
+            return new BatchResult(0, 0, 0);
+        }
+
+        Map<LocalDate, List<Long>> todoIdsByDate = new HashMap<>();
+        for (Todo todo : pendingTodos) {
+            LocalDate date = todo.getCreatedAt() == null ? LocalDate.now() : todo.getCreatedAt().toLocalDate();
+            todoIdsByDate.computeIfAbsent(date, key -> new ArrayList<>()).add(todo.getId());
+        }
+
+        // 트랜잭션 밖에서 날짜별 날씨를 먼저 조회
+        Map<LocalDate, String> weatherByDate = new HashMap<>();
+        List<Long> failedTodoIds = new ArrayList<>();
+        todoIdsByDate.forEach((date, todoIds) -> {
+            Optional<String> weather = weatherClient.findWeather(date);
+            if (weather.isPresent()) {
+                weatherByDate.put(date, weather.get());
+            } else {
+                failedTodoIds.addAll(todoIds);
+            }
+        });
+
+        Integer applied = transactionTemplate.execute(status -> applyWeather(todoIdsByDate, weatherByDate, failedTodoIds));
+        int enriched = applied == null ? 0 : applied;
+
+        // 날씨가 반영된 일정의 단건 조회 캐시를 커밋 이후 무효화
+        weatherByDate.keySet().forEach(date -> todoResponseCache.evictAll(todoIdsByDate.get(date)));
+        enrichedTotal.add(enriched);
+        failedAttemptTotal.add(failedTodoIds.size());
+        return new BatchResult(pendingTodos.size(), enriched, failedTodoIds.size());
+    }
+
+    // 조회한 날씨와 실패 시도를 한 트랜잭션으로 반영하고, 날씨를 반영한 일정 수를 반환
+    private int applyWeather(Map<LocalDate, List<Long>> todoIdsByDate, Map<LocalDate, String> weatherByDate, List<Long> failedTodoIds) {
+        int enriched = 0;
+        for (Map.Entry<LocalDate, String> entry : weatherByDate.entrySet()) {
+            enriched += todoRepository.updateWeather(
+                    todoIdsByDate.get(entry.getKey()), entry.getValue(), WeatherStatus.PENDING, WeatherStatus.RESOLVED);
+        }
+        if (!failedTodoIds.isEmpty()) {
+            todoRepository.increaseWeatherAttempts(failedTodoIds, WeatherStatus.PENDING);
+            int failed = todoRepository.updateWeatherStatusIfAttemptsExceeded(
+                    failedTodoIds, maxAttempts, WeatherStatus.PENDING, WeatherStatus.FAILED);
+            log.warn("날씨 보강 실패 - 일정 {}건, 최대 시도 초과로 FAILED 처리 {}건", failedTodoIds.size(), failed);
+        }
+        return enriched;
+    }
+
+    // fetched: 조회한 PENDING 일정 수, enriched: 날씨를 반영한 수, failed: 날씨를 얻지 못한 수
+    record BatchResult(int fetched, int enriched, int failed) {
+    }
+}
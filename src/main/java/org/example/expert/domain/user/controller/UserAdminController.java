@@ -2,7 +2,11 @@ package org.example.expert.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.EmailFilterStatisticsResponse;
+import org.example.expert.domain.user.dto.response.UserCacheStatisticsResponse;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -18,4 +22,14 @@ public class UserAdminController {
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    @GetMapping("/admin/users/cache-statistics")
+    public ResponseEntity<UserCacheStatisticsResponse> getCacheStatistics() {
+        return ResponseEntity.ok(userAdminService.getCacheStatistics());
+    }
+
+    @GetMapping("/admin/users/email-filter-statistics")
+    public ResponseEntity<EmailFilterStatisticsResponse> getEmailFilterStatistics() {
+        return ResponseEntity.ok(userAdminService.getEmailFilterStatistics());
+    }
 }
@@ -0,0 +1,27 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class EmailFilterStatisticsResponse {
+
+    private final boolean enabled;
+    private final boolean ready;
+    private final long negativeCount; // DB 조회 없이 걸러낸 이메일 수
+    private final long positiveCount;
+    private final long falsePositiveCount; // 필터는 통과했지만 DB 에 없던 이메일 수
+    private final double observedFalsePositiveRate;
+    private final double expectedFalsePositiveRate;
+    private final double targetFalsePositiveRate;
+
+    public EmailFilterStatisticsResponse(boolean enabled, boolean ready, long negativeCount, long positiveCount, long falsePositiveCount, double observedFalsePositiveRate, double expectedFalsePositiveRate, double targetFalsePositiveRate) {
+        this.enabled = enabled;
+        this.ready = ready;
+        this.negativeCount = negativeCount;
+        this.positiveCount = positiveCount;
+        this.falsePositiveCount = falsePositiveCount;
+        this.observedFalsePositiveRate = observedFalsePositiveRate;
+        this.expectedFalsePositiveRate = expectedFalsePositiveRate;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+    }
+}
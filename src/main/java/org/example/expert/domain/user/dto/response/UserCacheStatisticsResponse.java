@@ -0,0 +1,27 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserCacheStatisticsResponse {
+
+    private final boolean statisticsEnabled;
+    private final long entityHitCount;
+    private final long entityMissCount;
+    private final long entityPutCount;
+    private final long queryHitCount;
+    private final long queryMissCount;
+    private final long queryPutCount;
+    private final long databaseLoadCount; // 캐시를 거치지 못하고 DB 에서 읽은 User 엔티티 수
+
+    public UserCacheStatisticsResponse(boolean statisticsEnabled, long entityHitCount, long entityMissCount, long entityPutCount, long queryHitCount, long queryMissCount, long queryPutCount, long databaseLoadCount) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.entityHitCount = entityHitCount;
+        this.entityMissCount = entityMissCount;
+        this.entityPutCount = entityPutCount;
+        this.queryHitCount = queryHitCount;
+        this.queryMissCount = queryMissCount;
+        this.queryPutCount = queryPutCount;
+        this.databaseLoadCount = databaseLoadCount;
+    }
+}
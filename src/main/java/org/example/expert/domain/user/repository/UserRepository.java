@@ -1,11 +1,31 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // 쿼리 캐시에는 결과 id 만 보관하고 엔티티는 User 2차 캐시에서 조회 (기본 쿼리 결과 리전 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
+
     boolean existsByEmail(String email);
+
+    // 이메일 필터 재구성용. 엔티티 없이 이메일만 fetch size 단위로 읽는다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    // 담당자 등록 시 일정 소유자 확인과 담당자 유저 조회를 한 번의 쿼리로 처리
+    @Query("SELECT u FROM User u WHERE u.id = :userId " +
+            "AND EXISTS (SELECT 1 FROM Todo t WHERE t.id = :todoId AND t.user.id = :ownerId)")
+    Optional<User> findByIdIfTodoOwnedBy(@Param("userId") Long userId, @Param("todoId") Long todoId, @Param("ownerId") Long ownerId);
 }
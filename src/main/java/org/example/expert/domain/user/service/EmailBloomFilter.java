@@ -0,0 +1,273 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.EmailFilterStatisticsResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일 집합의 Bloom filter.
+ * mightContain 이 false 면 DB 에 없는 이메일이 확실하므로 로그인/회원가입에서 DB 조회를 생략할 수 있다.
+ * 시작 시 이메일을 스트리밍으로 읽어 채우고, 이후 가입은 put 으로 반영하며 주기적으로 다시 만들어 누적된 오탐을 정리한다.
+ * 여러 인스턴스로 운영하면 다른 인스턴스의 가입은 다음 재구성 전까지 반영되지 않으므로 재구성 주기를 짧게 두거나 비활성화한다.
+ */
+@Slf4j(topic = "EmailBloomFilter")
+@Component
+public class EmailBloomFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double targetFalsePositiveRate;
+
+    private volatile BitArray current;
+    private volatile BitArray rebuilding;
+    private volatile boolean ready;
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+
+    private final AtomicLong negativeCount = new AtomicLong();
+    private final AtomicLong positiveCount = new AtomicLong();
+    private final AtomicLong falsePositiveCount = new AtomicLong();
+
+    public EmailBloomFilter(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${user.email-filter.enabled:true}") boolean enabled,
+            @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.email-filter.false-positive-rate:0.01}") double targetFalsePositiveRate
+    ) {
+        if (expectedInsertions <= 0 || targetFalsePositiveRate <= 0 || targetFalsePositiveRate >= 1) {
+            throw new IllegalArgumentException("email filter 설정이 올바르지 않습니다.");
+        }
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+        this.current = newBitArray();
+    }
+
+    // 재구성이 끝나기 전이나 비활성화 상태에서는 항상 true (DB 조회로 판단)
+    public boolean mightContain(String email) {
+        if (!enabled || !ready) {
+            return true;
+        }
+        boolean result = current.mightContain(hash(email));
+        (result ? positiveCount : negativeCount).incrementAndGet();
+        return result;
+    }
+
+    // 가입 시 호출. 트랜잭션 안이면 커밋 이후에 반영해서 재구성 스트림과 엇갈려도 누락되지 않게 한다.
+    public void put(String email) {
+        long hash = hash(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putHash(hash);
+                }
+            });
+            return;
+        }
+        putHash(hash);
+    }
+
+    // rebuilding 을 먼저 읽는다. null 이면 재구성 전(스트림이 커밋된 행을 읽음)이거나 교체 이후(current 가 새 필터)이다.
+    private void putHash(long hash) {
+        BitArray next = rebuilding;
+        if (next != null) {
+            next.put(hash);
+        }
+        current.put(hash);
+    }
+
+    // mightContain 이 true 였지만 DB 에 없었던 경우 호출.
+    // 비활성화 상태나 재구성 전의 true 는 필터가 판단한 값이 아니므로 오탐으로 세지 않는다.
+    public void recordFalsePositive() {
+        if (!enabled || !ready) {
+            return;
+        }
+        falsePositiveCount.incrementAndGet();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${user.email-filter.rebuild-interval:PT1H}",
+            initialDelayString = "${user.email-filter.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!enabled || !rebuildRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            BitArray next = newBitArray();
+            // 재구성 중 들어온 가입도 새 필터에 반영되도록 먼저 공개한 뒤 스트리밍한다.
+            rebuilding = next;
+            long count = readOnlyTransaction.execute(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    return emails.mapToLong(email -> {
+                        next.put(hash(email));
+                        return 1;
+                    }).sum();
+                }
+            });
+            current = next;
+            ready = true;
+            log.info("이메일 필터 재구성 완료 - {}건, {}ms, 예상 오탐률 {}",
+                    count, (System.nanoTime() - startedAt) / 1_000_000, next.expectedFalsePositiveRate());
+        } catch (RuntimeException e) {
+            log.warn("이메일 필터 재구성 실패 - 기존 필터를 유지합니다.", e);
+        } finally {
+            rebuilding = null;
+            rebuildRunning.set(false);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getNegativeCount() {
+        return negativeCount.get();
+    }
+
+    public long getPositiveCount() {
+        return positiveCount.get();
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositiveCount.get();
+    }
+
+    // 실제 DB 에 없던 이메일 중 필터가 걸러내지 못한 비율
+    public double getObservedFalsePositiveRate() {
+        long falsePositives = falsePositiveCount.get();
+        long total = falsePositives + negativeCount.get();
+        return total == 0 ? 0.0 : (double) falsePositives / total;
+    }
+
+    // 현재 채워진 비트 비율로 계산한 이론상 오탐률
+    public double getExpectedFalsePositiveRate() {
+        return current.expectedFalsePositiveRate();
+    }
+
+    public EmailFilterStatisticsResponse getStatistics() {
+        return new EmailFilterStatisticsResponse(
+                enabled,
+                ready,
+                negativeCount.get(),
+                positiveCount.get(),
+                falsePositiveCount.get(),
+                getObservedFalsePositiveRate(),
+                getExpectedFalsePositiveRate(),
+                targetFalsePositiveRate
+        );
+    }
+
+    private BitArray newBitArray() {
+        double ln2 = Math.log(2);
+        long bits = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(targetFalsePositiveRate) / (ln2 * ln2)));
+        int hashFunctions = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+        return new BitArray(bits, hashFunctions);
+    }
+
+    // 이메일은 대소문자 구분 없이 비교될 수 있으므로(MySQL 기본 collation) 소문자로 정규화해 누락을 막는다.
+    static long hash(String email) {
+        byte[] bytes = email.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        // FNV-1a 결과를 murmur3 fmix64 로 한 번 더 섞어 하위 비트 편향을 줄인다.
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 동시 put 을 허용하는 비트 배열. 64비트 해시를 상/하위로 나눠 k 개의 위치를 만든다 (Kirsch-Mitzenmacher).
+     */
+    static final class BitArray {
+
+        private final AtomicLongArray words;
+        private final long bitSize;
+        private final int hashFunctions;
+        private final AtomicLong setBits = new AtomicLong();
+
+        BitArray(long bitSize, int hashFunctions) {
+            int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bitSize + 63) >>> 6);
+            this.words = new AtomicLongArray(wordCount);
+            this.bitSize = (long) wordCount << 6;
+            this.hashFunctions = hashFunctions;
+        }
+
+        void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashFunctions; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                if (set(index)) {
+                    setBits.incrementAndGet();
+                }
+            }
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashFunctions; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double expectedFalsePositiveRate() {
+            return Math.pow((double) setBits.get() / bitSize, hashFunctions);
+        }
+
+        private boolean set(long index) {
+            int wordIndex = (int) (index >>> 6);
+            long mask = 1L << index;
+            while (true) {
+                long word = words.get(wordIndex);
+                if ((word & mask) != 0) {
+                    return false;
+                }
+                if (words.compareAndSet(wordIndex, word, word | mask)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package org.example.expert.domain.user.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.EmailFilterStatisticsResponse;
+import org.example.expert.domain.user.dto.response.UserCacheStatisticsResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -14,10 +16,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final EmailBloomFilter emailBloomFilter;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        userCache.evict(userId);
+    }
+
+    public UserCacheStatisticsResponse getCacheStatistics() {
+        return userCache.getStatistics();
+    }
+
+    public EmailFilterStatisticsResponse getEmailFilterStatistics() {
+        return emailBloomFilter.getStatistics();
     }
 }
@@ -0,0 +1,69 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.user.dto.response.UserCacheStatisticsResponse;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 2차 캐시의 명시적 무효화와 통계 조회.
+ * READ_WRITE 전략이 엔티티 변경을 반영하지만, 비밀번호/권한 변경은 인증에 직결되므로 커밋 이후 한 번 더 제거한다.
+ */
+@Component
+public class UserCache {
+
+    private final SessionFactory sessionFactory;
+    private final boolean cacheEnabled;
+
+    // PersistenceConfig 가 2차 캐시 사용 여부를 정하는 것과 같은 설정을 읽는다.
+    public UserCache(
+            EntityManagerFactory entityManagerFactory,
+            @Value("${persistence.cache.enabled:true}") boolean cacheEnabled
+    ) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sessionFactory.getCache().evictEntityData(User.class, userId);
+                }
+            });
+            return;
+        }
+        sessionFactory.getCache().evictEntityData(User.class, userId);
+    }
+
+    public UserCacheStatisticsResponse getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        long databaseLoadCount = statistics.getEntityStatistics(User.class.getName()).getLoadCount();
+        // 2차 캐시를 끄면 캐시 region 이 만들어지지 않으므로 캐시 통계는 0 으로 응답한다.
+        if (!cacheEnabled) {
+            return new UserCacheStatisticsResponse(statistics.isStatisticsEnabled(), 0, 0, 0, 0, 0, 0, databaseLoadCount);
+        }
+
+        CacheRegionStatistics entityRegion = statistics.getDomainDataRegionStatistics(User.CACHE_REGION);
+        CacheRegionStatistics queryRegion = statistics.getQueryRegionStatistics(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+        return new UserCacheStatisticsResponse(
+                statistics.isStatisticsEnabled(),
+                entityRegion == null ? 0 : entityRegion.getHitCount(),
+                entityRegion == null ? 0 : entityRegion.getMissCount(),
+                entityRegion == null ? 0 : entityRegion.getPutCount(),
+                queryRegion == null ? 0 : queryRegion.getHitCount(),
+                queryRegion == null ? 0 : queryRegion.getMissCount(),
+                queryRegion == null ? 0 : queryRegion.getPutCount(),
+                databaseLoadCount
+        );
+    }
+}
@@ -16,6 +16,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
 
     @Transactional(readOnly = true)
     public UserResponse getUser(long userId) {
@@ -23,7 +24,7 @@ public class UserService {
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    // 비밀번호 검증/해싱은 트랜잭션 밖에서 하고, 조회와 저장만 각각 짧은 트랜잭션으로 실행한다.
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
 
         User user = userRepository.findById(userId)
@@ -38,5 +39,7 @@ public class UserService {
         }
 
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        userRepository.save(user);
+        userCache.evict(userId);
     }
 }
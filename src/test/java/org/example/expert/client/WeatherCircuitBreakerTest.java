@@ -0,0 +1,70 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherCircuitBreakerTest {
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @Test
+    void 연속_실패가_임계값에_도달하면_호출을_차단한다() {
+        // given
+        WeatherCircuitBreaker circuitBreaker = new WeatherCircuitBreaker(2, Duration.ofSeconds(30), new MutableClock());
+
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // then
+        assertEquals(WeatherCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    void 대기_시간이_지나면_시험_호출_하나만_허용하고_성공하면_닫힌다() {
+        // given
+        MutableClock clock = new MutableClock();
+        WeatherCircuitBreaker circuitBreaker = new WeatherCircuitBreaker(1, Duration.ofSeconds(30), clock);
+        circuitBreaker.onFailure();
+
+        // when
+        clock.advance(Duration.ofSeconds(30));
+
+        // then
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onSuccess();
+        assertEquals(WeatherCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherClientTest {
+
+    private HttpServer stubServer;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicReference<String> todayWeather = new AtomicReference<>("Sunny");
+    private volatile long responseDelayMillis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 실제 f-api.github.io 대신 로컬 스텁 서버로 날씨 데이터를 응답
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            sleep(responseDelayMillis);
+            String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+            byte[] body = String.format("[{\"date\":\"%s\",\"weather\":\"%s\"}]", today, todayWeather.get())
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        stubServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private WeatherClient weatherClient(Duration maxAge) {
+        return weatherClient(maxAge, "unknown");
+    }
+
+    private WeatherClient weatherClient(Duration maxAge, String fallback) {
+        String baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+        WeatherDataStore weatherDataStore = new WeatherDataStore(new ObjectMapper());
+        WeatherCircuitBreaker circuitBreaker = new WeatherCircuitBreaker(3, Duration.ofSeconds(30));
+        return new WeatherClient(
+                new RestTemplateBuilder(),
+                weatherDataStore,
+                circuitBreaker,
+                new SimpleMeterRegistry(),
+                baseUrl,
+                Duration.ofMillis(500),
+                Duration.ofMillis(500),
+                fallback,
+                "",
+                maxAge,
+                Duration.ofSeconds(3)
+        );
+    }
+
+    @Test
+    void 캐시가_유효하면_원격_호출_없이_오늘_날씨를_반환한다() {
+        // given
+        WeatherClient weatherClient = weatherClient(Duration.ofHours(6));
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        assertEquals(1, requestCount.get());
+        weatherClient.shutdown();
+    }
+
+    @Test
+    void 캐시가_오래되면_기존_값을_반환하고_백그라운드에서_갱신한다() throws Exception {
+        // given
+        WeatherClient weatherClient = weatherClient(Duration.ZERO);
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        todayWeather.set("Rainy");
+
+        // when
+        String stale = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", stale);
+        weatherClient.refreshAsync().get(3, TimeUnit.SECONDS);
+        assertEquals("Rainy", weatherClient.getTodayWeather());
+        weatherClient.shutdown();
+    }
+
+    @Test
+    void 여러_스레드가_동시에_갱신을_요청해도_원격_호출은_한_번만_진행된다() throws Exception {
+        // given
+        WeatherClient weatherClient = weatherClient(Duration.ofHours(6));
+        responseDelayMillis = 200;
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CompletableFuture<WeatherTable>>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return weatherClient.refreshAsync();
+            }));
+        }
+        start.countDown();
+        for (Future<CompletableFuture<WeatherTable>> result : results) {
+            result.get(3, TimeUnit.SECONDS).get(3, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertEquals(1, requestCount.get());
+        executor.shutdownNow();
+        weatherClient.shutdown();
+    }
+
+    @Test
+    void 원격_서버에_연결할_수_없으면_대체_값을_반환한다() {
+        // given
+        WeatherClient weatherClient = weatherClient(Duration.ofHours(6));
+        stubServer.stop(0);
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("unknown", weather);
+        weatherClient.shutdown();
+    }
+
+    @Test
+    void 대체_값이_LAST_KNOWN이고_조회된_값이_없으면_ServerException을_던진다() {
+        // given
+        WeatherClient weatherClient = weatherClient(Duration.ofHours(6), WeatherClient.LAST_KNOWN);
+        stubServer.stop(0);
+
+        // when & then
+        assertThrows(ServerException.class, weatherClient::getTodayWeather);
+        weatherClient.shutdown();
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class WeatherTableTest {
+
+    @Test
+    void 날짜별_날씨를_연도와_관계없이_조회한다() {
+        // given
+        WeatherDto[] weatherArray = {
+                new WeatherDto("01-01", "Snowy"),
+                new WeatherDto("02-29", "Cloudy"),
+                new WeatherDto("03-01", "Windy"),
+                new WeatherDto("12-31", "Clear")
+        };
+
+        // when
+        WeatherTable table = WeatherTable.from(weatherArray);
+
+        // then
+        assertEquals(4, table.size());
+        assertEquals("Snowy", table.get(LocalDate.of(2025, 1, 1)));
+        assertEquals("Cloudy", table.get(LocalDate.of(2024, 2, 29)));
+        assertEquals("Windy", table.get(LocalDate.of(2025, 3, 1)));
+        assertEquals("Clear", table.get(LocalDate.of(2023, 12, 31)));
+        assertNull(table.get(LocalDate.of(2025, 6, 15)));
+    }
+}
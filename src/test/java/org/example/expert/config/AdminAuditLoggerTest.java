@@ -0,0 +1,167 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditLoggerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    private AdminAuditLogger logger(int queueCapacity, double bodySampleRate, int bodyMaxLength) {
+        return new AdminAuditLogger(objectMapper, true, queueCapacity, 2, bodySampleRate, bodyMaxLength,
+                tempDir.resolve("audit.log").toString());
+    }
+
+    private AdminAuditEvent event(String requestBody, String responseBody) {
+        return new AdminAuditEvent(Instant.parse("2024-01-01T00:00:00Z"), 1L, "admin@example.com", "ADMIN",
+                "PATCH", "http://localhost/admin/users/2", "UserAdminController.changeUserRole(..)",
+                3_000_000L, null, requestBody, responseBody);
+    }
+
+    private List<String> lines() throws IOException {
+        return Files.readAllLines(tempDir.resolve("audit.log"));
+    }
+
+    @Test
+    void 이벤트는_호출_하나당_JSON_한_줄로_기록된다() throws IOException, InterruptedException {
+        // given
+        AdminAuditLogger auditLogger = logger(10, 1.0, 2048);
+        auditLogger.submit(event(auditLogger.serializeBody(
+                Map.of("userId", 2L, "userRoleChangeRequest", new UserRoleChangeRequest("ADMIN"))), null));
+        auditLogger.submit(event(null, null));
+        auditLogger.submit(event(null, null));
+
+        // when
+        auditLogger.stop();
+
+        // then
+        List<String> lines = lines();
+        assertEquals(3, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(1L, first.get("userId").asLong());
+        assertEquals("http://localhost/admin/users/2", first.get("url").asText());
+        assertEquals(3.0, first.get("durationMs").asDouble());
+        assertTrue(first.get("requestBody").asText().contains("\"role\":\"ADMIN\""));
+        assertEquals(3, auditLogger.getWrittenCount());
+    }
+
+    @Test
+    void 큐가_가득_차면_기다리지_않고_버린_수를_센다() throws InterruptedException {
+        // given
+        AdminAuditLogger auditLogger = logger(2, 1.0, 2048);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            auditLogger.submit(event(null, null));
+        }
+        auditLogger.stop();
+
+        // then
+        assertEquals(3, auditLogger.getDroppedCount());
+        assertEquals(2, auditLogger.getWrittenCount());
+    }
+
+    @Test
+    void 본문이_최대_길이를_넘으면_최대_길이까지만_직렬화한다() {
+        // given
+        AdminAuditLogger auditLogger = logger(10, 1.0, 10);
+
+        // when
+        String body = auditLogger.serializeBody(Map.of("value", "x".repeat(100)));
+
+        // then
+        assertEquals("{\"value\":\"...(truncated at 10 chars)", body);
+        assertEquals(1, auditLogger.getTruncatedCount());
+    }
+
+    @Test
+    void 본문이_최대_길이_이내면_그대로_직렬화한다() {
+        // given
+        AdminAuditLogger auditLogger = logger(10, 1.0, 13);
+
+        // when
+        String body = auditLogger.serializeBody(Map.of("value", "x"));
+
+        // then
+        assertEquals("{\"value\":\"x\"}", body);
+        assertEquals(0, auditLogger.getTruncatedCount());
+    }
+
+    @Test
+    void 제출_이후에_본문_객체가_바뀌어도_제출_시점의_내용으로_기록한다() throws IOException, InterruptedException {
+        // given
+        AdminAuditLogger auditLogger = logger(10, 1.0, 2048);
+        List<Long> todoIds = new ArrayList<>(List.of(1L, 2L));
+        auditLogger.submit(event(auditLogger.serializeBody(Map.of("todoIds", todoIds)), null));
+
+        // when
+        todoIds.add(3L);
+        auditLogger.stop();
+
+        // then
+        assertEquals("{\"todoIds\":[1,2]}", objectMapper.readTree(lines().get(0)).get("requestBody").asText());
+    }
+
+    @Test
+    void 샘플링_비율이_0이면_본문을_수집하지_않는다() {
+        // given
+        AdminAuditLogger auditLogger = logger(10, 0.0, 2048);
+
+        // when & then
+        assertFalse(auditLogger.shouldCaptureBody());
+        assertTrue(logger(10, 1.0, 2048).shouldCaptureBody());
+    }
+
+    @Test
+    void 기록_스레드가_큐를_비동기로_비운다() throws InterruptedException {
+        // given
+        AdminAuditLogger auditLogger = logger(10, 1.0, 2048);
+        auditLogger.start();
+
+        // when
+        auditLogger.submit(event(null, null));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (auditLogger.getWrittenCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // then
+        assertEquals(1, auditLogger.getWrittenCount());
+        auditLogger.stop();
+    }
+
+    @Test
+    void 종료하면_기록_스레드를_멈춘_뒤_남은_이벤트를_모두_기록한다() throws IOException, InterruptedException {
+        // given
+        AdminAuditLogger auditLogger = logger(100, 1.0, 2048);
+        auditLogger.start();
+        for (int i = 0; i < 50; i++) {
+            auditLogger.submit(event(auditLogger.serializeBody(Map.of("index", i)), null));
+        }
+
+        // when
+        auditLogger.stop();
+
+        // then
+        assertEquals(50, auditLogger.getWrittenCount());
+        assertEquals(0, auditLogger.getDroppedCount());
+        assertEquals(0, auditLogger.getFailedCount());
+        assertEquals(50, lines().size());
+    }
+}
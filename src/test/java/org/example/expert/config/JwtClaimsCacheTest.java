@@ -0,0 +1,71 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtClaimsCacheTest {
+
+    private JwtPrincipal principal(long expiresAt) {
+        return new JwtPrincipal(1L, "a@a.com", UserRole.USER, expiresAt);
+    }
+
+    @Test
+    void 캐시된_토큰은_검증_없이_조회된다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(10);
+        JwtPrincipal principal = principal(System.currentTimeMillis() + 60_000);
+        cache.put("token", principal);
+
+        // when
+        JwtPrincipal cached = cache.get("token");
+
+        // then
+        assertSame(principal, cached);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void 만료된_토큰은_캐시에서_조회되지_않는다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(10);
+        cache.put("expired", principal(System.currentTimeMillis() - 1));
+
+        // when & then
+        assertNull(cache.get("expired"));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void 토큰의_exp_가_지나면_캐시에서_제거된다() throws InterruptedException {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(10);
+        cache.put("short", principal(System.currentTimeMillis() + 50));
+
+        // when
+        Thread.sleep(100);
+
+        // then
+        assertNull(cache.get("short"));
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void 최대_크기를_넘으면_항목이_제거된다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(2);
+        JwtPrincipal principal = principal(System.currentTimeMillis() + 60_000);
+        cache.put("first", principal);
+        cache.put("second", principal);
+
+        // when
+        cache.put("third", principal);
+
+        // then
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+    }
+}
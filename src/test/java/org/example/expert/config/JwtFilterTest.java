@@ -0,0 +1,78 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtFilterTest {
+
+    private JwtUtil jwtUtil;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(Base64.getEncoder().encodeToString("jwt-filter-test-secret-key-jwt-filter-test".getBytes()));
+        jwtUtil.init();
+        meterRegistry = new SimpleMeterRegistry();
+        jwtFilter = new JwtFilter(jwtUtil, new JwtClaimsCache(10), meterRegistry);
+    }
+
+    private double failures(String type) {
+        return meterRegistry.get("jwt.validation.failures").tag("type", type).counter().count();
+    }
+
+    @Test
+    void 토큰이_없으면_400과_함께_missing_으로_집계된다() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertEquals(400, response.getStatus());
+        assertEquals(1.0, failures("missing"));
+    }
+
+    @Test
+    void 서명이_잘못된_토큰은_401과_함께_invalid_signature_로_집계된다() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", "Bearer not.a.jwt");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertEquals(1.0, failures("invalid_signature"));
+    }
+
+    @Test
+    void 필터_체인에서_발생한_예외는_JWT_오류로_바꾸지_않는다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+        FilterChain failingChain = (req, res) -> {
+            throw new IllegalStateException("downstream");
+        };
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> jwtFilter.doFilter(request, new MockHttpServletResponse(), failingChain));
+        assertEquals(0.0, failures("invalid"));
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.comment.controller.CommentAdminController;
+import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentExportService;
+import org.example.expert.domain.todo.controller.TodoAdminController;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.example.expert.domain.todo.service.TodoDeleteService;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoStatsUpdater;
+import org.example.expert.domain.todo.service.TodoWeatherEnricher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class LoggingAspectTest {
+
+    @Mock
+    private AdminAuditLogger adminAuditLogger;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LoggingAspect loggingAspect;
+
+    @BeforeEach
+    void setUp() {
+        loggingAspect = new LoggingAspect(adminAuditLogger);
+    }
+
+    private void captureBodies() throws Exception {
+        given(adminAuditLogger.isEnabled()).willReturn(true);
+        given(adminAuditLogger.shouldCaptureBody()).willReturn(true);
+        given(adminAuditLogger.serializeBody(any())).willAnswer(invocation ->
+                objectMapper.writeValueAsString(invocation.getArgument(0)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(loggingAspect);
+        return (T) factory.getProxy();
+    }
+
+    @Test
+    void 사용자_외_도메인의_어드민_컨트롤러_호출도_감사_이벤트로_남긴다() throws Exception {
+        // given
+        captureBodies();
+        TodoStatsUpdater todoStatsUpdater = mock(TodoStatsUpdater.class);
+        given(todoStatsUpdater.recalculateAll()).willReturn(3);
+        TodoAdminController controller = proxy(new TodoAdminController(
+                mock(TodoWeatherEnricher.class), todoStatsUpdater, mock(TodoDeleteService.class)));
+
+        // when
+        controller.recalculateCounts();
+
+        // then
+        ArgumentCaptor<AdminAuditEvent> captor = ArgumentCaptor.forClass(AdminAuditEvent.class);
+        then(adminAuditLogger).should().submit(captor.capture());
+        assertEquals("TodoAdminController.recalculateCounts()", captor.getValue().handler());
+        assertEquals("3", captor.getValue().responseBody());
+    }
+
+    @Test
+    void 스트리밍_응답은_본문으로_남기지_않는다() throws Exception {
+        // given
+        captureBodies();
+        CommentAdminController controller = proxy(new CommentAdminController(
+                mock(CommentAdminService.class), mock(CommentExportService.class)));
+
+        // when
+        controller.exportComments(1L);
+
+        // then
+        ArgumentCaptor<AdminAuditEvent> captor = ArgumentCaptor.forClass(AdminAuditEvent.class);
+        then(adminAuditLogger).should().submit(captor.capture());
+        assertEquals("{\"todoId\":1}", captor.getValue().requestBody());
+        assertNull(captor.getValue().responseBody());
+        then(adminAuditLogger).should(never()).serializeBody(any(StreamingResponseBody.class));
+    }
+
+    @Test
+    void 어드민이_아닌_컨트롤러는_감사_대상이_아니다() {
+        // given
+        TodoController controller = proxy(new TodoController(mock(TodoService.class), mock(TodoDeleteService.class)));
+
+        // when
+        controller.getTodo(1L);
+
+        // then
+        then(adminAuditLogger).should(never()).submit(any());
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * actuator 가 서비스 포트와 분리된 관리 포트에서만 열리는지 확인한다.
+ * 테스트에서는 메트릭 내보내기가 꺼져 있으므로 @AutoConfigureObservability 로 Prometheus 엔드포인트를 켠다.
+ */
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret.key=bWFuYWdlbWVudC1wb3J0LXRlc3Qtc2VjcmV0LWtleS1tYW5hZ2VtZW50LXBvcnQ=",
+        "management.server.port=0",
+        "management.endpoints.web.exposure.include=health,prometheus",
+        "user.email-filter.enabled=false"
+})
+class ManagementPortTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @LocalServerPort
+    private int serverPort;
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void 메트릭은_관리_포트에서만_수집된다() {
+        // when
+        ResponseEntity<String> management = restTemplate.getForEntity(
+                "http://localhost:" + managementPort + "/actuator/prometheus", String.class);
+        ResponseEntity<String> service = restTemplate.getForEntity(
+                "http://localhost:" + serverPort + "/actuator/prometheus", String.class);
+
+        // then
+        assertNotEquals(serverPort, managementPort);
+        assertEquals(HttpStatus.OK, management.getStatusCode());
+        assertTrue(management.getBody().contains("jvm_memory_used_bytes"));
+        assertNotEquals(HttpStatus.OK, service.getStatusCode());
+    }
+
+    @Test
+    void 헬스_체크는_관리_포트에서_토큰_없이_응답한다() {
+        // when
+        ResponseEntity<String> health = restTemplate.getForEntity(
+                "http://localhost:" + managementPort + "/actuator/health", String.class);
+
+        // then
+        assertEquals(HttpStatus.OK, health.getStatusCode());
+    }
+}
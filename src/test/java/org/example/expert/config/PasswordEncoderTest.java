@@ -1,11 +1,15 @@
 package org.example.expert.config;
 
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
@@ -26,4 +30,42 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 해싱_대기열이_가득_차면_ServiceUnavailableException을_던진다() {
+        // given
+        PasswordEncoder boundedEncoder = new PasswordEncoder(1, 1, 4);
+
+        try {
+            // when & then
+            ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class, () -> {
+                for (int i = 0; i < 1000; i++) {
+                    boundedEncoder.encodeAsync("testPassword" + i);
+                }
+            });
+            assertEquals("요청이 많아 잠시 후 다시 시도해주세요.", exception.getMessage());
+            assertTrue(boundedEncoder.getRejectedCount() >= 1);
+        } finally {
+            boundedEncoder.shutdown();
+        }
+    }
+
+    @Test
+    void 저장된_해시의_cost가_설정과_다르면_재해싱이_필요하다() {
+        // given
+        PasswordEncoder lowCostEncoder = new PasswordEncoder(1, 10, 4);
+        PasswordEncoder highCostEncoder = new PasswordEncoder(1, 10, 6);
+
+        try {
+            String encodedPassword = lowCostEncoder.encode("testPassword");
+
+            // when & then
+            assertFalse(lowCostEncoder.needsRehash(encodedPassword));
+            assertTrue(highCostEncoder.needsRehash(encodedPassword));
+            assertTrue(highCostEncoder.matches("testPassword", encodedPassword));
+        } finally {
+            lowCostEncoder.shutdown();
+            highCostEncoder.shutdown();
+        }
+    }
 }
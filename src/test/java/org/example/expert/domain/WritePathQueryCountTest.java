@@ -0,0 +1,216 @@
+package org.example.expert.domain;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentBulkSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentBulkRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerBulkRepository;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoCounter;
+import org.example.expert.domain.todo.service.TodoDeleteService;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.todo.service.TodoStatsUpdater;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 댓글/담당자 쓰기 경로가 실행하는 SQL 문 수를 Hibernate 통계로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PersistenceConfig.class, CommentService.class, ManagerService.class, TodoStatsUpdater.class, TodoResponseCache.class,
+        TodoDeleteService.class, TodoCounter.class, CommentBulkRepository.class, ManagerBulkRepository.class})
+class WritePathQueryCountTest {
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private TodoDeleteService todoDeleteService;
+    @Autowired
+    private TodoStatsUpdater todoStatsUpdater;
+
+    private Statistics statistics;
+    private User owner;
+    private User member;
+    private Todo todo;
+    private AuthUser ownerAuth;
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(new User("owner@example.com", "password", UserRole.USER));
+        member = em.persist(new User("member@example.com", "password", UserRole.USER));
+        todo = em.persist(new Todo("title", "contents", "Sunny", owner));
+        em.flush();
+        em.clear();
+
+        ownerAuth = new AuthUser(owner.getId(), owner.getEmail(), owner.getUserRole());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void comment_등록은_댓글_수_UPDATE와_INSERT만_실행한다() {
+        // when
+        commentService.saveComment(ownerAuth, todo.getId(), new CommentSaveRequest("contents"));
+        em.flush();
+
+        // then
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, em.find(Todo.class, todo.getId()).getCommentCount());
+    }
+
+    @Test
+    void comment_여러_건_등록은_기존_행과_id가_겹치지_않고_댓글_수를_한번에_늘린다() {
+        // given
+        Comment existing = em.persistAndFlush(new Comment("existing", owner, em.find(Todo.class, todo.getId())));
+        em.clear();
+        List<CommentSaveRequest> requests = IntStream.range(0, 250)
+                .mapToObj(i -> new CommentSaveRequest("bulk " + i))
+                .toList();
+
+        // when
+        List<CommentSaveResponse> responses = commentService.saveComments(ownerAuth, todo.getId(), new CommentBulkSaveRequest(requests));
+
+        // then
+        assertEquals(250, responses.size());
+        assertEquals(250, responses.stream().map(CommentSaveResponse::getId).distinct().count());
+        assertTrue(responses.stream().allMatch(response -> response.getId() > existing.getId()));
+        assertEquals("bulk 249", em.find(Comment.class, responses.get(249).getId()).getContents());
+        assertEquals(250, em.find(Todo.class, todo.getId()).getCommentCount());
+    }
+
+    @Test
+    void 없는_todo에_comment를_등록하면_에러가_발생한다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentService.saveComment(ownerAuth, -1L, new CommentSaveRequest("contents")));
+        assertEquals("Todo not found", exception.getMessage());
+    }
+
+    @Test
+    void manager_등록은_소유자_확인_겸_담당자_조회와_INSERT_담당자_수_UPDATE만_실행한다() {
+        // when
+        managerService.saveManager(ownerAuth, todo.getId(), new ManagerSaveRequest(member.getId()));
+        em.flush();
+
+        // then
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(2, em.find(Todo.class, todo.getId()).getManagerCount());
+    }
+
+    @Test
+    void manager_여러_명_등록은_요청_순서대로_id를_반환한다() {
+        // given
+        User another = em.persistAndFlush(new User("another@example.com", "password", UserRole.USER));
+
+        // when
+        List<ManagerSaveResponse> responses = managerService.saveManagers(
+                ownerAuth, todo.getId(), new ManagerBulkSaveRequest(List.of(member.getId(), another.getId())));
+
+        // then
+        assertEquals(2, responses.size());
+        assertEquals(member.getId(), em.find(Manager.class, responses.get(0).getId()).getUser().getId());
+        assertEquals(another.getId(), em.find(Manager.class, responses.get(1).getId()).getUser().getId());
+        assertEquals(3, em.find(Todo.class, todo.getId()).getManagerCount());
+    }
+
+    @Test
+    void manager_삭제는_조건부_DELETE와_담당자_수_UPDATE만_실행한다() {
+        // given
+        Manager manager = em.persistAndFlush(new Manager(member, em.find(Todo.class, todo.getId())));
+        em.clear();
+        statistics.clear();
+
+        // when
+        managerService.deleteManager(ownerAuth, todo.getId(), manager.getId());
+
+        // then
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertNull(em.find(Manager.class, manager.getId()));
+    }
+
+    @Test
+    void 어긋난_댓글_수와_담당자_수를_실제_행_수로_다시_계산한다() {
+        // given
+        Todo target = em.find(Todo.class, todo.getId());
+        em.persist(new Comment("comment", owner, target));
+        em.persist(new Manager(member, target));
+        em.flush();
+        em.getEntityManager()
+                .createQuery("UPDATE Todo t SET t.commentCount = 99, t.managerCount = 0 WHERE t.id = :id")
+                .setParameter("id", todo.getId())
+                .executeUpdate();
+        em.clear();
+
+        // when
+        int updated = todoStatsUpdater.recalculateAll();
+        em.clear();
+
+        // then
+        Todo recalculated = em.find(Todo.class, todo.getId());
+        assertEquals(1, updated);
+        assertEquals(1, recalculated.getCommentCount());
+        assertEquals(2, recalculated.getManagerCount());
+    }
+
+    @Test
+    void 소유자가_아니면_manager를_삭제하지_않는다() {
+        // given
+        Manager manager = em.persistAndFlush(new Manager(member, em.find(Todo.class, todo.getId())));
+        AuthUser memberAuth = new AuthUser(member.getId(), member.getEmail(), member.getUserRole());
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.deleteManager(memberAuth, todo.getId(), manager.getId()));
+        assertEquals("일정 소유자만 접근할 수 있습니다.", exception.getMessage());
+        assertNotNull(em.find(Manager.class, manager.getId()));
+    }
+
+    @Test
+    void todo_삭제는_댓글_수와_관계없이_소유자_확인_행_잠금_DELETE_세번만_실행한다() {
+        // given
+        Todo target = em.find(Todo.class, todo.getId());
+        for (int i = 0; i < 100; i++) {
+            em.persist(new Comment("comment " + i, owner, target));
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // when
+        todoDeleteService.deleteTodo(ownerAuth, todo.getId());
+
+        // then
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertNull(em.find(Todo.class, todo.getId()));
+    }
+}
@@ -7,22 +7,30 @@ import org.example.expert.domain.auth.service.dto.request.SignupRequest;
 import org.example.expert.domain.auth.service.dto.response.SigninResponse;
 import org.example.expert.domain.auth.service.dto.response.SignupResponse;
 import org.example.expert.domain.auth.service.service.AuthService;
+import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.example.expert.domain.user.service.UserCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
@@ -35,6 +43,11 @@ public class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserCache userCache;
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
     @InjectMocks
     private AuthService authService;
 
@@ -47,6 +60,7 @@ public class AuthServiceTest {
         ReflectionTestUtils.setField(savedUser, "id", 1L);
         String bearerToken = "bearerToken";
 
+        given(emailBloomFilter.mightContain(request.getEmail())).willReturn(true);
         given(userRepository.existsByEmail(request.getEmail())).willReturn(false);
         given(passwordEncoder.encode(request.getPassword())).willReturn("encodedPassword");
         given(userRepository.save(any())).willReturn(savedUser);
@@ -68,6 +82,7 @@ public class AuthServiceTest {
         ReflectionTestUtils.setField(user, "id", 1L);
         String bearerToken = "bearerToken";
 
+        given(emailBloomFilter.mightContain(request.getEmail())).willReturn(true);
         given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
         given(passwordEncoder.matches(request.getPassword(), user.getPassword())).willReturn(true);
         given(jwtUtil.createToken(1L, "test@test.com", UserRole.USER)).willReturn(bearerToken);
@@ -78,4 +93,118 @@ public class AuthServiceTest {
         // then
         assertEquals(response.getBearerToken(), bearerToken);
     }
+
+    @Test
+    @DisplayName("로그인 성공 - 저장된 해시의 cost 가 다르면 재해싱")
+    void signin_rehash_when_cost_changed() {
+        // given
+        SigninRequest request = new SigninRequest("test@test.com", "password");
+        User user = new User(request.getEmail(), "oldEncodedPassword", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(emailBloomFilter.mightContain(request.getEmail())).willReturn(true);
+        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(request.getPassword(), "oldEncodedPassword")).willReturn(true);
+        given(passwordEncoder.needsRehash("oldEncodedPassword")).willReturn(true);
+        given(passwordEncoder.encode(request.getPassword())).willReturn("newEncodedPassword");
+        given(jwtUtil.createToken(1L, "test@test.com", UserRole.USER)).willReturn("bearerToken");
+
+        // when
+        authService.signin(request);
+
+        // then
+        assertEquals("newEncodedPassword", user.getPassword());
+        verify(userRepository).save(user);
+        verify(userCache).evict(1L);
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - cost 가 같으면 비밀번호를 다시 저장하지 않는다")
+    void signin_skips_save_when_no_rehash() {
+        // given
+        SigninRequest request = new SigninRequest("test@test.com", "password");
+        User user = new User(request.getEmail(), "encodedPassword", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(emailBloomFilter.mightContain(request.getEmail())).willReturn(true);
+        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(request.getPassword(), "encodedPassword")).willReturn(true);
+        given(passwordEncoder.needsRehash("encodedPassword")).willReturn(false);
+
+        // when
+        authService.signin(request);
+
+        // then
+        verify(userRepository, never()).save(any());
+        verify(userCache, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("회원가입 - 이메일 필터에 없는 이메일은 중복 조회를 생략")
+    void signup_skips_exists_query_when_filter_misses() {
+        // given
+        SignupRequest request = new SignupRequest("new@test.com", "password", "USER");
+        User savedUser = new User(request.getEmail(), "encodedPassword", UserRole.USER);
+        ReflectionTestUtils.setField(savedUser, "id", 1L);
+
+        given(emailBloomFilter.mightContain(request.getEmail())).willReturn(false);
+        given(passwordEncoder.encode(request.getPassword())).willReturn("encodedPassword");
+        given(userRepository.save(any())).willReturn(savedUser);
+        given(jwtUtil.createToken(1L, "new@test.com", UserRole.USER)).willReturn("bearerToken");
+
+        // when
+        authService.signup(request);
+
+        // then
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(emailBloomFilter).put("new@test.com");
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 필터를 통과한 동시 가입은 unique 제약 위반을 중복 이메일로 변환")
+    void signup_duplicate_on_unique_violation() {
+        // given
+        SignupRequest request = new SignupRequest("new@test.com", "password", "USER");
+
+        given(emailBloomFilter.mightContain(request.getEmail())).willReturn(false);
+        given(passwordEncoder.encode(request.getPassword())).willReturn("encodedPassword");
+        given(userRepository.save(any())).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> authService.signup(request));
+
+        // then
+        assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        verify(emailBloomFilter, never()).put(anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 이메일 필터에 없는 이메일은 DB 조회 없이 거절")
+    void signin_rejects_definite_miss_without_query() {
+        // given
+        SigninRequest request = new SigninRequest("unknown@test.com", "password");
+        given(emailBloomFilter.mightContain(request.getEmail())).willReturn(false);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> authService.signin(request));
+
+        // then
+        assertEquals("가입되지 않은 유저입니다.", exception.getMessage());
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 필터는 통과했지만 DB 에 없으면 오탐으로 기록")
+    void signin_records_false_positive() {
+        // given
+        SigninRequest request = new SigninRequest("unknown@test.com", "password");
+        given(emailBloomFilter.mightContain(request.getEmail())).willReturn(true);
+        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.empty());
+
+        // when
+        assertThrows(InvalidRequestException.class, () -> authService.signin(request));
+
+        // then
+        verify(emailBloomFilter).recordFalsePositive();
+    }
 }
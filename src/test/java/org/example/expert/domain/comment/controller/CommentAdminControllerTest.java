@@ -0,0 +1,75 @@
+package org.example.expert.domain.comment.controller;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 테스트 슬라이스에는 ExpertApplication.defaultProperties 가 적용되지 않으므로 같은 값을 직접 지정한다.
+@WebMvcTest(value = CommentAdminController.class, properties = "spring.mvc.async.request-timeout=30m")
+class CommentAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CommentAdminService commentAdminService;
+
+    @MockBean
+    private CommentExportService commentExportService;
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    void exportComments_컨테이너_기본_제한_시간을_넘겨도_스트림을_끝까지_쓴다() throws Exception {
+        // given
+        long todoId = 1L;
+        int lines = 20;
+        given(commentExportService.exportComments(eq(todoId), any(OutputStream.class))).willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            for (int i = 0; i < lines; i++) {
+                outputStream.write(("{\"id\":" + i + "}\n").getBytes(StandardCharsets.UTF_8));
+                outputStream.flush();
+                Thread.sleep(10);
+            }
+            return (long) lines;
+        });
+
+        // when
+        MvcResult result = mockMvc.perform(get("/admin/todos/{todoId}/comments/export", todoId)
+                        .sessionAttr("ROLE", "ADMIN")
+                        .sessionAttr("ADMIN_ID", "admin"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        // 비동기 제한 시간이 컨테이너 기본값(30초)이 아니라 애플리케이션 기본값(30분)으로 지정된다.
+        assertEquals("30m", ExpertApplication.defaultProperties().get("spring.mvc.async.request-timeout"));
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertEquals(lines, body.lines().count());
+        assertEquals("{\"id\":19}", body.lines().reduce((first, second) -> second).orElseThrow());
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CommentExportServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    @InjectMocks
+    private CommentExportService commentExportService;
+
+    @Test
+    public void comment를_한_줄에_하나씩_NDJSON으로_내보내고_스트림을_닫는다() throws Exception {
+        // given
+        long todoId = 1;
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 10, 0, 0);
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<CommentResponse> comments = Stream.of(
+                new CommentResponse(1L, "first", 1L, "a@a.com", createdAt),
+                new CommentResponse(2L, "second", 2L, "b@b.com", createdAt)
+        ).onClose(() -> closed.set(true));
+        given(commentRepository.streamCommentResponses(todoId)).willReturn(comments);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long written = commentExportService.exportComments(todoId, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, written);
+        assertEquals(2, lines.length);
+        assertEquals("second", objectMapper.readTree(lines[1]).get("contents").asText());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void 존재하지_않는_todo의_comment를_내보내면_에러가_발생한다() {
+        // given
+        given(todoRepository.existsById(1L)).willReturn(false);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentExportService.validateTodoExists(1L));
+        assertEquals("Todo not found", exception.getMessage());
+    }
+}
@@ -1,14 +1,18 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoStatsUpdater;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
@@ -17,7 +21,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,6 +40,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoStatsUpdater todoStatsUpdater;
     @InjectMocks
     private CommentService commentService;
 
@@ -41,7 +52,7 @@ class CommentServiceTest {
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(todoStatsUpdater.changeCommentCount(todoId, 1)).willReturn(false);
 
         // when
         // 할 일을 찾지 못할 때의 예외는 'InvalidRequestException'로 수정해주었다.
@@ -63,7 +74,8 @@ class CommentServiceTest {
         Todo todo = new Todo("title", "title", "contents", user);
         Comment comment = new Comment(request.getContents(), user, todo);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(todoStatsUpdater.changeCommentCount(todoId, 1)).willReturn(true);
+        given(todoRepository.getReferenceById(anyLong())).willReturn(todo);
         given(commentRepository.save(any())).willReturn(comment);
 
         // when
@@ -72,4 +84,31 @@ class CommentServiceTest {
         // then
         assertNotNull(result);
     }
+
+    @Test
+    public void comment_목록을_커서로_조회하면_마지막_항목으로_다음_커서를_만든다() {
+        // given
+        long todoId = 1;
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 10, 0, 0);
+        CommentResponse comment = new CommentResponse(7L, "contents", 1L, "email", createdAt);
+        Pageable pageable = PageRequest.of(0, 1);
+
+        given(commentRepository.findFirstCommentResponseSlice(todoId, pageable))
+                .willReturn(new SliceImpl<>(List.of(comment), pageable, true));
+
+        // when
+        CursorSliceResponse<CommentResponse> result = commentService.getCommentsByCursor(todoId, null, 1);
+
+        // then
+        assertTrue(result.isHasNext());
+        assertEquals(new KeysetCursor(createdAt, 7L), KeysetCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    public void comment_목록_조회_size가_최대값을_넘으면_에러가_발생한다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentService.getCommentsByCursor(1L, null, 101));
+        assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+    }
 }
@@ -2,18 +2,22 @@ package org.example.expert.domain.manager.service;
 
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerBulkRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoStatsUpdater;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -25,6 +29,9 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class ManagerServiceTest {
@@ -32,9 +39,13 @@ class ManagerServiceTest {
     @Mock
     private ManagerRepository managerRepository;
     @Mock
+    private ManagerBulkRepository managerBulkRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoStatsUpdater todoStatsUpdater;
     @InjectMocks
     private ManagerService managerService;
 
@@ -50,25 +61,73 @@ class ManagerServiceTest {
     }
 
     @Test
-    void todo의_user가_null인_경우_예외가_발생한다() {
+    void manager_등록_시_Todo가_없다면_InvalidRequestException을_던진다() {
         // given
         AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
         long todoId = 1L;
         long managerUserId = 2L;
 
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "user", null);
+        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
+
+        given(userRepository.findByIdIfTodoOwnedBy(managerUserId, todoId, authUser.getId())).willReturn(Optional.empty());
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.empty());
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+            managerService.saveManager(authUser, todoId, managerSaveRequest)
+        );
+
+        assertEquals("Todo(ID: 1)가 존재하지 않습니다.", exception.getMessage());
+    }
+
+    @Test
+    void manager_등록_시_일정_소유자가_아니면_InvalidRequestException을_던진다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        long managerUserId = 2L;
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(userRepository.findByIdIfTodoOwnedBy(managerUserId, todoId, authUser.getId())).willReturn(Optional.empty());
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(3L));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
             managerService.saveManager(authUser, todoId, managerSaveRequest)
         );
 
-        assertEquals("일정 소유자 정보가 없습니다.", exception.getMessage());
+        assertEquals("일정 소유자만 접근할 수 있습니다.", exception.getMessage());
+    }
+
+    @Test
+    void manager_삭제_시_조건부_DELETE가_성공하면_추가_조회를_하지_않는다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        given(managerRepository.deleteByIdIfTodoOwnedBy(3L, 1L, 1L)).willReturn(1);
+
+        // when
+        managerService.deleteManager(authUser, 1L, 3L);
+
+        // then
+        then(todoRepository).shouldHaveNoInteractions();
+        then(todoStatsUpdater).should().changeManagerCount(1L, -1);
+    }
+
+    @Test
+    void manager_삭제_시_다른_일정의_담당자면_InvalidRequestException을_던진다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        given(managerRepository.deleteByIdIfTodoOwnedBy(3L, 1L, 1L)).willReturn(0);
+        given(todoRepository.findOwnerIdById(1L)).willReturn(Optional.of(1L));
+        given(managerRepository.findTodoIdById(3L)).willReturn(Optional.of(2L));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+            managerService.deleteManager(authUser, 1L, 3L)
+        );
+
+        assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
     }
 
     @Test // 테스트코드 샘플
@@ -109,8 +168,9 @@ class ManagerServiceTest {
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+        given(userRepository.findByIdIfTodoOwnedBy(managerUserId, todoId, authUser.getId())).willReturn(Optional.of(managerUser));
+        given(todoStatsUpdater.changeManagerCount(todoId, 1)).willReturn(true);
+        given(todoRepository.getReferenceById(todoId)).willReturn(todo);
         given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -121,4 +181,79 @@ class ManagerServiceTest {
         assertEquals(managerUser.getId(), response.getUser().getId());
         assertEquals(managerUser.getEmail(), response.getUser().getEmail());
     }
+
+    @Test
+    void 여러_담당자를_한번에_등록한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+
+        long todoId = 1L;
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
+
+        User managerUser1 = new User("b@b.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(managerUser1, "id", 2L);
+        User managerUser2 = new User("c@c.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(managerUser2, "id", 3L);
+
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(2L, 3L, 2L));
+
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(user.getId()));
+        given(userRepository.findAllById(List.of(2L, 3L))).willReturn(List.of(managerUser1, managerUser2));
+        given(todoStatsUpdater.changeManagerCount(todoId, 2)).willReturn(true);
+        given(managerBulkRepository.insertAll(todoId, List.of(2L, 3L))).willReturn(List.of(10L, 11L));
+
+        // when
+        List<ManagerSaveResponse> responses = managerService.saveManagers(authUser, todoId, request);
+
+        // then
+        assertEquals(2, responses.size());
+        assertEquals(11L, responses.get(1).getId());
+        assertEquals("c@c.com", responses.get(1).getUser().getEmail());
+        InOrder inOrder = inOrder(todoStatsUpdater, managerBulkRepository);
+        inOrder.verify(todoStatsUpdater).changeManagerCount(todoId, 2);
+        inOrder.verify(managerBulkRepository).insertAll(todoId, List.of(2L, 3L));
+    }
+
+    @Test
+    void manager_등록_중_일정이_삭제되면_INSERT_없이_InvalidRequestException을_던진다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        long managerUserId = 2L;
+        User managerUser = new User("b@b.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+
+        // 소유자 확인 이후 다른 요청이 일정을 삭제해 담당자 수 UPDATE 대상 행이 없음
+        given(userRepository.findByIdIfTodoOwnedBy(managerUserId, todoId, authUser.getId())).willReturn(Optional.of(managerUser));
+        given(todoStatsUpdater.changeManagerCount(todoId, 1)).willReturn(false);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId)));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        then(managerRepository).should(never()).save(any());
+    }
+
+    @Test
+    void 여러_담당자_등록_중_없는_유저가_있으면_IRE_에러를_던진다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+
+        long todoId = 1L;
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
+
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(2L));
+
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(user.getId()));
+        given(userRepository.findAllById(List.of(2L))).willReturn(List.of());
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManagers(authUser, todoId, request));
+        assertEquals("등록하려고 하는 담당자 유저(ID: 2)가 존재하지 않습니다.", exception.getMessage());
+    }
 }
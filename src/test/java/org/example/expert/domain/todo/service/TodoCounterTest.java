@@ -0,0 +1,54 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCounterTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @InjectMocks
+    private TodoCounter todoCounter;
+
+    @Test
+    void 처음_조회할_때만_DB_에서_세고_이후에는_증감만_반영한다() {
+        // given
+        given(todoRepository.count()).willReturn(10L);
+
+        // when
+        long first = todoCounter.get();
+        todoCounter.increase(2);
+        todoCounter.decrease(1);
+
+        // then
+        assertEquals(10L, first);
+        assertEquals(11L, todoCounter.get());
+        then(todoRepository).should(times(1)).count();
+    }
+
+    @Test
+    void 주기적_재동기화는_어긋난_값을_DB_의_실제_값으로_바로잡는다() {
+        // given
+        given(todoRepository.count()).willReturn(10L, 7L);
+        todoCounter.get();
+        // 커밋 이후 반영이 누락되어 메모리 값이 어긋난 상태
+        todoCounter.increase(5);
+
+        // when
+        todoCounter.scheduledResync();
+
+        // then
+        assertEquals(7L, todoCounter.getCachedCount());
+        assertEquals(7L, todoCounter.get());
+    }
+}
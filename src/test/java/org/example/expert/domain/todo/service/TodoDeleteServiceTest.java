@@ -0,0 +1,119 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TodoDeleteServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private TodoCounter todoCounter;
+    @Mock
+    private TodoResponseCache todoResponseCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TodoDeleteService todoDeleteService;
+
+    @BeforeEach
+    void setUp() {
+        todoDeleteService = new TodoDeleteService(todoRepository, commentRepository, managerRepository,
+                todoCounter, todoResponseCache, transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("성공 - 일괄 삭제는 chunk 마다 일정 행을 잠근 뒤 댓글, 담당자, 일정 순으로 DELETE 한다")
+    void deleteTodos_chunked() {
+        //given
+        given(todoRepository.lockByIds(List.of(1L, 2L))).willReturn(List.of(1L, 2L));
+        given(todoRepository.lockByIds(List.of(3L))).willReturn(List.of(3L));
+        given(commentRepository.deleteByTodoIds(anyList())).willReturn(100);
+        given(managerRepository.deleteByTodoIds(anyList())).willReturn(1);
+        given(todoRepository.deleteByIds(List.of(1L, 2L))).willReturn(2);
+        given(todoRepository.deleteByIds(List.of(3L))).willReturn(1);
+
+        //when
+        TodoDeleteResponse response = todoDeleteService.deleteTodos(List.of(1L, 2L, 3L, 3L));
+
+        //then
+        assertEquals(3, response.getRequestedCount());
+        assertEquals(2, response.getChunkCount());
+        assertEquals(3, response.getDeletedTodoCount());
+        assertEquals(200, response.getDeletedCommentCount());
+        then(todoCounter).should().decrease(2);
+        then(todoCounter).should().decrease(1);
+        then(todoResponseCache).should(times(2)).evictAll(anyList());
+        InOrder inOrder = inOrder(todoRepository, commentRepository, managerRepository);
+        inOrder.verify(todoRepository).lockByIds(List.of(1L, 2L));
+        inOrder.verify(commentRepository).deleteByTodoIds(List.of(1L, 2L));
+        inOrder.verify(managerRepository).deleteByTodoIds(List.of(1L, 2L));
+        inOrder.verify(todoRepository).deleteByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("성공 - 이미 삭제되어 잠글 일정이 없는 chunk 는 DELETE 하지 않는다")
+    void deleteTodos_alreadyDeleted() {
+        //given
+        given(todoRepository.lockByIds(List.of(1L))).willReturn(List.of());
+
+        //when
+        TodoDeleteResponse response = todoDeleteService.deleteTodos(List.of(1L));
+
+        //then
+        assertEquals(0, response.getDeletedTodoCount());
+        then(commentRepository).should(never()).deleteByTodoIds(anyList());
+        then(todoRepository).should(never()).deleteByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("실패 - chunk 크기가 0 이하이면 생성할 수 없다")
+    void constructor_invalidChunkSize() {
+        //when & then
+        assertThrows(IllegalArgumentException.class, () -> new TodoDeleteService(todoRepository, commentRepository,
+                managerRepository, todoCounter, todoResponseCache, transactionManager, 0));
+    }
+
+    @Test
+    @DisplayName("실패 - 일정 소유자가 아니면 아무것도 삭제하지 않는다")
+    void deleteTodo_notOwner() {
+        //given
+        AuthUser authUser = new AuthUser(2L, "b@b.com", UserRole.USER);
+        given(todoRepository.findOwnerIdById(1L)).willReturn(Optional.of(1L));
+
+        //when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoDeleteService.deleteTodo(authUser, 1L));
+        assertEquals("일정 소유자만 삭제할 수 있습니다.", exception.getMessage());
+        then(commentRepository).should(never()).deleteByTodoIds(anyList());
+    }
+}
@@ -2,10 +2,15 @@ package org.example.expert.domain.todo.service;
 
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorSliceResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoCountMode;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -15,19 +20,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -35,6 +49,10 @@ public class TodoServiceTest {
     private TodoRepository todoRepository;
     @Mock
     private WeatherClient weatherClient;
+    @Mock
+    private TodoCounter todoCounter;
+    @Spy
+    private TodoResponseCache todoResponseCache = new TodoResponseCache(100, Duration.ofMinutes(1));
     @InjectMocks
     private TodoService todoService;
 
@@ -81,6 +99,26 @@ public class TodoServiceTest {
         assertEquals(writer.getEmail(), result.getUser().getEmail());
     }
 
+    @Test
+    @DisplayName("성공 - 비동기 날씨 보강 모드에서는 날씨 조회 없이 PENDING 으로 저장")
+    void saveTodo_asyncWeatherEnrichment() {
+        //given
+        ReflectionTestUtils.setField(todoService, "asyncWeatherEnrichment", true);
+        AuthUser authUser = new AuthUser(1L, "writer@email.com", UserRole.USER);
+        TodoSaveRequest request = new TodoSaveRequest(title, contents);
+
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        TodoSaveResponse result = todoService.saveTodo(authUser, request);
+
+        //then
+        then(weatherClient).should(never()).getTodayWeather();
+        then(todoRepository).should().save(argThat(todo ->
+                todo.getWeatherStatus() == WeatherStatus.PENDING && todo.getWeather() == null));
+        assertEquals(title, result.getTitle());
+    }
+
     @Test
     @DisplayName("성공 - getTodos")
     void getTodos_success() {
@@ -92,9 +130,9 @@ public class TodoServiceTest {
         Todo todo = new Todo(title, contents, weather, user);
         ReflectionTestUtils.setField(todo, "id", 1L);
 
-        Page<Todo> todos = new PageImpl<>(List.of(todo), pageable, 1);
+        Page<TodoResponse> todos = new PageImpl<>(List.of(toResponse(todo)), pageable, 1);
 
-        given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(todos);
+        given(todoRepository.findTodoResponses(pageable)).willReturn(todos);
 
         //when
         Page<TodoResponse> responses = todoService.getTodos(page, size);
@@ -109,6 +147,52 @@ public class TodoServiceTest {
         assertEquals(todo.getWeather(), response.getWeather());
     }
 
+    @Test
+    @DisplayName("성공 - getTodos count=cached 이면 count 쿼리 없이 캐시된 전체 개수를 사용")
+    void getTodos_cachedCount() {
+        //given
+        Pageable pageable = PageRequest.of(0, 10);
+        Todo todo = new Todo(title, contents, weather, user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
+
+        given(todoRepository.findTodoResponseSlice(pageable))
+                .willReturn(new SliceImpl<>(List.of(toResponse(todo)), pageable, false));
+        given(todoCounter.get()).willReturn(42L);
+
+        //when
+        TodoPageResponse response = todoService.getTodos(1, 10, TodoCountMode.CACHED);
+
+        //then
+        then(todoRepository).should(never()).findTodoResponses(any());
+        assertEquals(42L, response.getTotalElements());
+        assertFalse(response.isTotalExact());
+        assertEquals(1, response.getContent().size());
+    }
+
+    @Test
+    @DisplayName("성공 - getTodosByCursor 다음 페이지가 있으면 마지막 항목으로 커서를 만든다")
+    void getTodosByCursor_success() {
+        //given
+        LocalDateTime modifiedAt = LocalDateTime.of(2025, 1, 1, 10, 0, 0);
+        Todo todo = new Todo(title, contents, weather, user);
+        ReflectionTestUtils.setField(todo, "id", 5L);
+        ReflectionTestUtils.setField(todo, "modifiedAt", modifiedAt);
+
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 1, 2, 0, 0), 9L);
+        Pageable pageable = PageRequest.of(0, 1);
+
+        given(todoRepository.findNextTodoResponseSlice(cursor.timestamp(), cursor.id(), pageable))
+                .willReturn(new SliceImpl<>(List.of(toResponse(todo)), pageable, true));
+
+        //when
+        CursorSliceResponse<TodoResponse> response = todoService.getTodosByCursor(cursor.encode(), 1);
+
+        //then
+        assertEquals(1, response.getSize());
+        assertEquals(5L, response.getContent().get(0).getId());
+        assertEquals(new KeysetCursor(modifiedAt, 5L), KeysetCursor.decode(response.getNextCursor()));
+    }
+
     @Test
     @DisplayName("성공 - getTodo")
     void getTodo_success() {
@@ -117,7 +201,7 @@ public class TodoServiceTest {
         Todo todo = new Todo(title, contents, weather, user);
         ReflectionTestUtils.setField(todo, "id", todoId);
 
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(java.util.Optional.of(todo));
+        given(todoRepository.findTodoResponseById(todoId)).willReturn(java.util.Optional.of(toResponse(todo)));
 
         //when
         TodoResponse response = todoService.getTodo(todoId);
@@ -130,4 +214,40 @@ public class TodoServiceTest {
         assertEquals(todo.getUser().getId(), response.getUser().getId());
         assertEquals(todo.getUser().getEmail(), response.getUser().getEmail());
     }
+
+    @Test
+    @DisplayName("성공 - getTodo 두 번째 조회는 캐시에서 반환하고, 무효화 후에는 다시 조회")
+    void getTodo_cached() {
+        //given
+        long todoId = 1L;
+        Todo todo = new Todo(title, contents, weather, user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+
+        given(todoRepository.findTodoResponseById(todoId)).willReturn(java.util.Optional.of(toResponse(todo)));
+
+        //when
+        todoService.getTodo(todoId);
+        todoService.getTodo(todoId);
+        todoResponseCache.evict(todoId);
+        todoService.getTodo(todoId);
+
+        //then
+        then(todoRepository).should(times(2)).findTodoResponseById(todoId);
+        assertEquals(1, todoResponseCache.getHitCount());
+    }
+
+    private TodoResponse toResponse(Todo todo) {
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                todo.getUser().getId(),
+                todo.getUser().getEmail(),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
+                todo.getCreatedAt(),
+                todo.getModifiedAt()
+        );
+    }
 }
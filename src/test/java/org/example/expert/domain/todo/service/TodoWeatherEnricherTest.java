@@ -0,0 +1,141 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherEnricherTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 9, 0);
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final TodoResponseCache todoResponseCache = new TodoResponseCache(100, Duration.ofMinutes(1));
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @BeforeEach
+    void setUp() {
+        todoWeatherEnricher = new TodoWeatherEnricher(
+                todoRepository, weatherClient, todoResponseCache, transactionManager, 2, 3);
+    }
+
+    private Todo pendingTodo(long id) {
+        User user = new User("user@example.com", "password", UserRole.USER);
+        Todo todo = Todo.withPendingWeather("title", "contents", user);
+        ReflectionTestUtils.setField(todo, "id", id);
+        ReflectionTestUtils.setField(todo, "createdAt", CREATED_AT);
+        return todo;
+    }
+
+    @Test
+    void 날씨를_조회하면_트랜잭션_밖에서_조회한_뒤_PENDING_일정에만_반영한다() {
+        // given
+        given(todoRepository.findByWeatherStatusOrderByIdAsc(eq(WeatherStatus.PENDING), any(Pageable.class)))
+                .willReturn(List.of(pendingTodo(1L), pendingTodo(2L)))
+                .willReturn(List.of());
+        given(weatherClient.findWeather(LocalDate.of(2024, 5, 1))).willReturn(Optional.of("Sunny"));
+        given(todoRepository.updateWeather(List.of(1L, 2L), "Sunny", WeatherStatus.PENDING, WeatherStatus.RESOLVED))
+                .willReturn(2);
+
+        // when
+        todoWeatherEnricher.enrichPendingTodos();
+
+        // then
+        InOrder inOrder = inOrder(weatherClient, transactionManager, todoRepository);
+        inOrder.verify(weatherClient).findWeather(LocalDate.of(2024, 5, 1));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(todoRepository).updateWeather(List.of(1L, 2L), "Sunny", WeatherStatus.PENDING, WeatherStatus.RESOLVED);
+        then(todoRepository).should(never()).increaseWeatherAttempts(anyList(), any());
+        assertEquals(2, todoWeatherEnricher.getEnrichedTotal());
+    }
+
+    @Test
+    void 날씨를_얻지_못하면_시도_횟수를_늘리고_이번_주기의_처리를_멈춘다() {
+        // given
+        given(todoRepository.findByWeatherStatusOrderByIdAsc(eq(WeatherStatus.PENDING), any(Pageable.class)))
+                .willReturn(List.of(pendingTodo(1L), pendingTodo(2L)));
+        given(weatherClient.findWeather(any())).willReturn(Optional.empty());
+        given(todoRepository.updateWeatherStatusIfAttemptsExceeded(List.of(1L, 2L), 3, WeatherStatus.PENDING, WeatherStatus.FAILED))
+                .willReturn(1);
+
+        // when
+        TodoWeatherEnricher.BatchResult result = todoWeatherEnricher.enrichNextBatch();
+        todoWeatherEnricher.enrichPendingTodos();
+
+        // then
+        assertEquals(new TodoWeatherEnricher.BatchResult(2, 0, 2), result);
+        // 배치가 가득 찼더라도 실패가 있으면 다음 배치를 조회하지 않는다.
+        then(todoRepository).should(times(2)).findByWeatherStatusOrderByIdAsc(eq(WeatherStatus.PENDING), any(Pageable.class));
+        then(todoRepository).should(times(2)).increaseWeatherAttempts(List.of(1L, 2L), WeatherStatus.PENDING);
+        then(todoRepository).should(never()).updateWeather(anyList(), any(), any(), any());
+        assertEquals(4, todoWeatherEnricher.getFailedAttemptTotal());
+    }
+
+    @Test
+    void 조회_이후_이미_보강된_일정은_다시_반영하지_않는다() {
+        // given
+        given(todoRepository.findByWeatherStatusOrderByIdAsc(eq(WeatherStatus.PENDING), any(Pageable.class)))
+                .willReturn(List.of(pendingTodo(1L), pendingTodo(2L)));
+        given(weatherClient.findWeather(any())).willReturn(Optional.of("Sunny"));
+        // 2번 일정은 그 사이 다른 인스턴스가 RESOLVED 로 바꿔 PENDING 조건에 걸리지 않음
+        given(todoRepository.updateWeather(List.of(1L, 2L), "Sunny", WeatherStatus.PENDING, WeatherStatus.RESOLVED))
+                .willReturn(1);
+
+        // when
+        TodoWeatherEnricher.BatchResult result = todoWeatherEnricher.enrichNextBatch();
+
+        // then
+        assertEquals(new TodoWeatherEnricher.BatchResult(2, 1, 0), result);
+        assertEquals(1, todoWeatherEnricher.getEnrichedTotal());
+    }
+
+    @Test
+    void PENDING_일정이_없으면_날씨를_조회하지_않는다() {
+        // given
+        given(todoRepository.findByWeatherStatusOrderByIdAsc(eq(WeatherStatus.PENDING), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        todoWeatherEnricher.enrichPendingTodos();
+
+        // then
+        then(weatherClient).should(never()).findWeather(any());
+        then(transactionManager).should(never()).getTransaction(any());
+        then(todoRepository).should(never()).updateWeatherStatusIfAttemptsExceeded(anyList(), anyInt(), any(), any());
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class EmailBloomFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmailBloomFilter newFilter(boolean enabled) {
+        return new EmailBloomFilter(userRepository, transactionManager, enabled, 10_000, 0.01);
+    }
+
+    @Test
+    void 재구성_전에는_모든_이메일을_있을_수도_있다고_판단한다() {
+        // given
+        EmailBloomFilter filter = newFilter(true);
+
+        // when & then
+        assertTrue(filter.mightContain("unknown@test.com"));
+        assertEquals(0, filter.getNegativeCount());
+    }
+
+    @Test
+    void 재구성_후_저장된_이메일은_누락되지_않고_오탐률은_목표_근처다() {
+        // given
+        given(userRepository.streamAllEmails())
+                .willReturn(IntStream.range(0, 10_000).mapToObj(i -> "user" + i + "@test.com"));
+        EmailBloomFilter filter = newFilter(true);
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertTrue(filter.isReady());
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@test.com"));
+        }
+        assertTrue(filter.mightContain("USER1@test.com"));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("other" + i + "@test.com"))
+                .count();
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+        assertTrue(filter.getExpectedFalsePositiveRate() < 0.02);
+    }
+
+    @Test
+    void 가입한_이메일은_바로_반영된다() {
+        // given
+        given(userRepository.streamAllEmails()).willReturn(Stream.empty());
+        EmailBloomFilter filter = newFilter(true);
+        filter.rebuild();
+
+        // when
+        filter.put("new@test.com");
+
+        // then
+        assertTrue(filter.mightContain("new@test.com"));
+    }
+
+    @Test
+    void 오탐률은_DB에_없던_이메일_중_필터를_통과한_비율이다() {
+        // given
+        given(userRepository.streamAllEmails()).willReturn(Stream.empty());
+        EmailBloomFilter filter = newFilter(true);
+        filter.rebuild();
+
+        // when
+        assertFalse(filter.mightContain("a@test.com"));
+        assertFalse(filter.mightContain("b@test.com"));
+        assertFalse(filter.mightContain("c@test.com"));
+        filter.recordFalsePositive();
+
+        // then
+        assertEquals(0.25, filter.getObservedFalsePositiveRate());
+    }
+
+    @Test
+    void 비활성화하면_항상_DB로_판단한다() {
+        // given
+        EmailBloomFilter filter = newFilter(false);
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("unknown@test.com"));
+    }
+
+    @Test
+    void 비활성화_상태에서는_DB_조회_실패를_오탐으로_세지_않는다() {
+        // given
+        EmailBloomFilter filter = newFilter(false);
+
+        // when
+        assertTrue(filter.mightContain("unknown@test.com"));
+        filter.recordFalsePositive();
+
+        // then
+        assertEquals(0, filter.getFalsePositiveCount());
+        assertEquals(0.0, filter.getObservedFalsePositiveRate());
+    }
+
+    @Test
+    void 재구성_전에는_DB_조회_실패를_오탐으로_세지_않는다() {
+        // given
+        EmailBloomFilter filter = newFilter(true);
+
+        // when
+        assertTrue(filter.mightContain("unknown@test.com"));
+        filter.recordFalsePositive();
+
+        // then
+        assertFalse(filter.isReady());
+        assertEquals(0, filter.getFalsePositiveCount());
+        assertEquals(0.0, filter.getObservedFalsePositiveRate());
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.user.dto.response.UserCacheStatisticsResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * persistence.cache.enabled=false 로 2차 캐시를 끈 구성에서도 통계 조회가 실패하지 않는지 확인한다.
+ */
+@DataJpaTest(properties = "persistence.cache.enabled=false")
+@Import({PersistenceConfig.class, UserCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserCacheDisabledTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserCache userCache;
+
+    @Test
+    void 캐시를_끄면_캐시_통계는_0이고_모든_조회가_DB에서_읽힌다() {
+        // given
+        User user = userRepository.save(new User("disabled@example.com", "password", UserRole.USER));
+        UserCacheStatisticsResponse before = userCache.getStatistics();
+
+        // when
+        userRepository.findById(user.getId());
+        userRepository.findById(user.getId());
+        userCache.evict(user.getId());
+        UserCacheStatisticsResponse after = userCache.getStatistics();
+        userRepository.deleteAll();
+
+        // then
+        assertTrue(after.isStatisticsEnabled());
+        assertEquals(0, after.getEntityHitCount());
+        assertEquals(0, after.getEntityPutCount());
+        assertEquals(0, after.getQueryHitCount());
+        assertEquals(2, after.getDatabaseLoadCount() - before.getDatabaseLoadCount());
+    }
+}
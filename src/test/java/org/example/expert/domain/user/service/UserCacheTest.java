@@ -0,0 +1,89 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.user.dto.response.UserCacheStatisticsResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 커밋된 데이터만 2차 캐시에 들어가므로 테스트 트랜잭션 없이 repository 호출마다 트랜잭션을 커밋한다.
+ */
+@DataJpaTest
+@Import({PersistenceConfig.class, UserCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserCache userCache;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("cache@example.com", "password", UserRole.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void id로_다시_조회하면_DB_대신_2차_캐시에서_읽는다() {
+        // given
+        userCache.evict(user.getId());
+        UserCacheStatisticsResponse before = userCache.getStatistics();
+
+        // when
+        userRepository.findById(user.getId());
+        userRepository.findById(user.getId());
+
+        // then
+        UserCacheStatisticsResponse after = userCache.getStatistics();
+        assertEquals(1, after.getDatabaseLoadCount() - before.getDatabaseLoadCount());
+        assertEquals(1, after.getEntityHitCount() - before.getEntityHitCount());
+    }
+
+    @Test
+    void 이메일_조회는_쿼리_캐시를_사용한다() {
+        // given
+        UserCacheStatisticsResponse before = userCache.getStatistics();
+
+        // when
+        userRepository.findByEmail(user.getEmail());
+        userRepository.findByEmail(user.getEmail());
+
+        // then
+        UserCacheStatisticsResponse after = userCache.getStatistics();
+        assertEquals(1, after.getQueryMissCount() - before.getQueryMissCount());
+        assertEquals(1, after.getQueryHitCount() - before.getQueryHitCount());
+    }
+
+    @Test
+    void 무효화하면_다음_조회는_DB에서_읽는다() {
+        // given
+        userRepository.findById(user.getId());
+        UserCacheStatisticsResponse before = userCache.getStatistics();
+
+        // when
+        userCache.evict(user.getId());
+        userRepository.findById(user.getId());
+
+        // then
+        UserCacheStatisticsResponse after = userCache.getStatistics();
+        assertEquals(1, after.getDatabaseLoadCount() - before.getDatabaseLoadCount());
+    }
+}